@@ -0,0 +1,97 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive;
+
+import jp.co.yahoo.yosegi.hive.io.ColumnAndIndex;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+
+/**
+ * Cache of child columns resolved by name, shared by the inspectors of a table.
+ * The cache is cleared when the spread changes, which is detected by ColumnAndIndex.columnIndex.
+ */
+public class SpreadColumnCache {
+
+  private final Map<IColumn,Map<String,IColumn>> childColumnMap =
+      new IdentityHashMap<IColumn,Map<String,IColumn>>();
+  private int currentColumnIndex = -1;
+
+  /**
+   * Returns the child column of the column of the cursor.
+   */
+  public IColumn getColumn( final ColumnAndIndex parent , final String columnName ) {
+    if ( currentColumnIndex != parent.columnIndex ) {
+      childColumnMap.clear();
+      currentColumnIndex = parent.columnIndex;
+    }
+    Map<String,IColumn> childColumns = childColumnMap.get( parent.column );
+    if ( childColumns == null ) {
+      childColumns = new HashMap<String,IColumn>();
+      childColumnMap.put( parent.column , childColumns );
+    }
+    IColumn childColumn = childColumns.get( columnName );
+    if ( childColumn == null ) {
+      childColumn = parent.column.getColumn( columnName );
+      childColumns.put( columnName , childColumn );
+    }
+    return childColumn;
+  }
+
+  /**
+   * Create the reference to a child column for a field of an inspector.
+   */
+  public ChildColumnReference createReference( final String columnName ) {
+    return new ChildColumnReference( this , columnName );
+  }
+
+  /**
+   * Keeps the last resolved child column, so that rows of the same parent column
+   * do not look up the cache.
+   */
+  public static class ChildColumnReference {
+
+    private final SpreadColumnCache cache;
+    private final String columnName;
+    private IColumn parentColumn;
+    private int columnIndex = -1;
+    private IColumn childColumn;
+
+    private ChildColumnReference( final SpreadColumnCache cache , final String columnName ) {
+      this.cache = cache;
+      this.columnName = columnName;
+    }
+
+    /**
+     * Returns the child column of the column of the cursor.
+     */
+    public IColumn get( final ColumnAndIndex parent ) {
+      if ( parentColumn != parent.column || columnIndex != parent.columnIndex ) {
+        childColumn = cache.getColumn( parent , columnName );
+        parentColumn = parent.column;
+        columnIndex = parent.columnIndex;
+      }
+      return childColumn;
+    }
+
+  }
+
+}
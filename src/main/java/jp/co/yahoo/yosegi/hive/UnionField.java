@@ -20,7 +20,9 @@ package jp.co.yahoo.yosegi.hive;
 
 import jp.co.yahoo.yosegi.hive.io.ColumnAndIndex;
 import jp.co.yahoo.yosegi.hive.io.PrimitiveToWritableConverter;
+import jp.co.yahoo.yosegi.hive.io.PrimitiveWritableConverter;
 import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.ICell;
 import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.StandardUnionObjectInspector.StandardUnion;
 import org.apache.hadoop.hive.serde2.objectinspector.UnionObject;
@@ -29,19 +31,20 @@ import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.UnionTypeInfo;
 
 import java.io.IOException;
-import java.util.HashMap;
-import java.util.Map;
+import java.util.ArrayList;
+import java.util.List;
 
 public class UnionField {
 
-  private final Map<ColumnType,IGetUnionObject> columnTypeMap =
-      new HashMap<ColumnType,IGetUnionObject>();
+  private final IGetUnionObject[] columnTypeArray =
+      new IGetUnionObject[ ColumnType.values().length ];
+  private final boolean reuseObject;
 
   private interface IGetUnionObject {
 
     public UnionObject get( final ColumnAndIndex columnAndIndex );
 
-    public ColumnType getColumnType();
+    public ColumnType[] getColumnTypes();
 
   }
 
@@ -49,32 +52,43 @@ public class UnionField {
 
     private final byte tag;
     private final PrimitiveObjectInspector inspector;
-    private final ColumnType columnType;
+    private final ColumnType[] columnTypes;
+    private final PrimitiveWritableConverter converter;
+    private final StandardUnion union;
 
     public PrimitiveGetUnionObject(
         final byte tag , final PrimitiveObjectInspector inspector , final ColumnType columnType ) {
       this.tag = tag;
       this.inspector = inspector;
-      this.columnType = columnType;
+      this.columnTypes = new ColumnType[]{ columnType };
+      if ( reuseObject ) {
+        converter = new PrimitiveWritableConverter( inspector.getPrimitiveCategory() );
+        union = new StandardUnion( tag , null );
+      } else {
+        converter = null;
+        union = null;
+      }
     }
 
     @Override
     public UnionObject get( final ColumnAndIndex columnAndIndex ) {
       try {
-        return new StandardUnion(
-            tag ,
-            PrimitiveToWritableConverter.convert(
-              inspector.getPrimitiveCategory() ,
-              columnAndIndex.column.get( columnAndIndex.index )
-            ) );
+        ICell cell = columnAndIndex.column.get( columnAndIndex.index );
+        if ( union == null ) {
+          return new StandardUnion(
+              tag ,
+              PrimitiveToWritableConverter.convert( inspector.getPrimitiveCategory() , cell ) );
+        }
+        union.setObject( converter.convert( cell ) );
+        return union;
       } catch ( IOException ex ) {
         return null;
       }
     }
 
     @Override
-    public ColumnType getColumnType() {
-      return columnType;
+    public ColumnType[] getColumnTypes() {
+      return columnTypes;
     }
 
   }
@@ -82,21 +96,66 @@ public class UnionField {
   private class NestedGetUnionObject implements IGetUnionObject {
 
     private final byte tag;
-    private final ColumnType columnType;
+    private final ColumnType[] columnTypes;
+    private final StandardUnion union;
 
     public NestedGetUnionObject( final byte tag , final ColumnType columnType ) {
       this.tag = tag;
-      this.columnType = columnType;
+      this.columnTypes = new ColumnType[]{ columnType };
+      if ( reuseObject ) {
+        union = new StandardUnion( tag , null );
+      } else {
+        union = null;
+      }
+    }
+
+    @Override
+    public UnionObject get( final ColumnAndIndex columnAndIndex ) {
+      if ( union == null ) {
+        return new StandardUnion( tag , columnAndIndex );
+      }
+      union.setObject( columnAndIndex );
+      return union;
+    }
+
+    @Override
+    public ColumnType[] getColumnTypes() {
+      return columnTypes;
+    }
+  }
+
+  private class UnionGetUnionObject implements IGetUnionObject {
+
+    private final byte tag;
+    private final UnionField childUnionField;
+    private final StandardUnion union;
+
+    public UnionGetUnionObject( final byte tag , final UnionTypeInfo unionTypeInfo ) {
+      this.tag = tag;
+      childUnionField = new UnionField( unionTypeInfo , reuseObject );
+      if ( reuseObject ) {
+        union = new StandardUnion( tag , null );
+      } else {
+        union = null;
+      }
     }
 
     @Override
     public UnionObject get( final ColumnAndIndex columnAndIndex ) {
-      return new StandardUnion( tag , columnAndIndex );
+      UnionObject childUnion = childUnionField.get( columnAndIndex );
+      if ( childUnion == null ) {
+        return null;
+      }
+      if ( union == null ) {
+        return new StandardUnion( tag , childUnion );
+      }
+      union.setObject( childUnion );
+      return union;
     }
 
     @Override
-    public ColumnType getColumnType() {
-      return columnType;
+    public ColumnType[] getColumnTypes() {
+      return childUnionField.getColumnTypes();
     }
   }
 
@@ -114,8 +173,8 @@ public class UnionField {
     }
 
     @Override
-    public ColumnType getColumnType() {
-      return ColumnType.NULL;
+    public ColumnType[] getColumnTypes() {
+      return new ColumnType[0];
     }
   }
 
@@ -128,7 +187,11 @@ public class UnionField {
       case LIST:
         return new NestedGetUnionObject( tag , ColumnType.ARRAY );
       case UNION:
-        return new NullGetUnionObject( tag );
+        UnionTypeInfo unionTypeInfo = (UnionTypeInfo)typeInfo;
+        if ( unionTypeInfo.getAllUnionObjectTypeInfos() == null ) {
+          return new NullGetUnionObject( tag );
+        }
+        return new UnionGetUnionObject( tag , unionTypeInfo );
       case PRIMITIVE:
         PrimitiveTypeInfo primitiveTypeInfo = (PrimitiveTypeInfo)typeInfo;
         PrimitiveObjectInspector primitiveObjectInspector =
@@ -179,13 +242,48 @@ public class UnionField {
    * Initialize by setting union type information.
    */
   public UnionField( final UnionTypeInfo typeInfo ) {
+    this( typeInfo , false );
+  }
+
+  /**
+   * Initialize by setting union type information.
+   * If reuseObject is true, the returned UnionObject and its value are reused between rows.
+   * It is only safe for the fields of the row struct.
+   * The members of a nested union handle the column types
+   * that are not handled by the members of this union.
+   */
+  public UnionField( final UnionTypeInfo typeInfo , final boolean reuseObject ) {
+    this.reuseObject = reuseObject;
+    List<IGetUnionObject> childUnionFieldList = new ArrayList<IGetUnionObject>();
     byte tag = (byte)0;
-    
     for ( TypeInfo childTypeInfo : typeInfo.getAllUnionObjectTypeInfos() ) {
       IGetUnionObject field = craeteGetUnionObject( tag , childTypeInfo );
-      columnTypeMap.put( field.getColumnType() , field );
+      if ( field instanceof UnionGetUnionObject ) {
+        childUnionFieldList.add( field );
+      } else {
+        for ( ColumnType columnType : field.getColumnTypes() ) {
+          columnTypeArray[ columnType.ordinal() ] = field;
+        }
+      }
       tag++;
     }
+    for ( IGetUnionObject field : childUnionFieldList ) {
+      for ( ColumnType columnType : field.getColumnTypes() ) {
+        if ( columnTypeArray[ columnType.ordinal() ] == null ) {
+          columnTypeArray[ columnType.ordinal() ] = field;
+        }
+      }
+    }
+  }
+
+  private ColumnType[] getColumnTypes() {
+    List<ColumnType> result = new ArrayList<ColumnType>();
+    for ( ColumnType columnType : ColumnType.values() ) {
+      if ( columnTypeArray[ columnType.ordinal() ] != null ) {
+        result.add( columnType );
+      }
+    }
+    return result.toArray( new ColumnType[ result.size() ] );
   }
 
   /**
@@ -193,7 +291,7 @@ public class UnionField {
    */
   public UnionObject get( final ColumnAndIndex columnAndIndex ) {
     IGetUnionObject field =
-        columnTypeMap.get( columnAndIndex.column.get( columnAndIndex.index ).getType() );
+        columnTypeArray[ columnAndIndex.column.get( columnAndIndex.index ).getType().ordinal() ];
     if ( field == null ) {
       return null;
     }
@@ -27,15 +27,55 @@ import org.apache.hadoop.hive.serde2.typeinfo.MapTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoUtils;
 import org.apache.hadoop.hive.serde2.typeinfo.UnionTypeInfo;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 
 public final class YosegiColumnTypeUtil {
 
   private YosegiColumnTypeUtil() {}
 
+  /**
+   * Create the row type of the projected columns in the order of the table.
+   * If no column is projected, all columns of the table are read.
+   */
+  public static StructTypeInfo createProjectionTypeInfo(
+      final String columnNameProperty ,
+      final String columnTypeProperty ,
+      final String projectionColumnNames ) {
+    Set<String> columnNameSet = new HashSet<String>();
+    if ( projectionColumnNames != null ) {
+      for ( String columnName : projectionColumnNames.split(",") ) {
+        if ( ! columnName.isEmpty() ) {
+          columnNameSet.add( columnName );
+        }
+      }
+    }
+
+    List<TypeInfo> fieldTypes = TypeInfoUtils.getTypeInfosFromTypeString( columnTypeProperty );
+    String[] splitNames = new String[0];
+    if ( columnNameProperty != null && ! columnNameProperty.isEmpty() ) {
+      splitNames = columnNameProperty.split(",");
+    }
+
+    ArrayList<String> columnNameList = new ArrayList<String>();
+    ArrayList<TypeInfo> fieldTypeList = new ArrayList<TypeInfo>();
+    for ( int i = 0 ; i < fieldTypes.size() && i < splitNames.length ; i++ ) {
+      if ( columnNameSet.isEmpty() || columnNameSet.contains( splitNames[i] ) ) {
+        columnNameList.add( splitNames[i] );
+        fieldTypeList.add( fieldTypes.get(i) );
+      }
+    }
+    StructTypeInfo rootType = new StructTypeInfo();
+    rootType.setAllStructFieldNames( columnNameList );
+    rootType.setAllStructFieldTypeInfos( fieldTypeList );
+    return rootType;
+  }
+
   /**
    * Convert from Hive type to Yosegi type.
    */
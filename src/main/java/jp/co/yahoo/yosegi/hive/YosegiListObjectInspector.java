@@ -23,6 +23,7 @@ import jp.co.yahoo.yosegi.hive.io.PrimitiveToWritableConverter;
 import jp.co.yahoo.yosegi.spread.column.ArrayCell;
 import jp.co.yahoo.yosegi.spread.column.ColumnType;
 import jp.co.yahoo.yosegi.spread.column.ICell;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.SettableListObjectInspector;
@@ -30,6 +31,7 @@ import org.apache.hadoop.hive.serde2.typeinfo.ListTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.UnionTypeInfo;
 
 import java.io.IOException;
+import java.util.AbstractList;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -38,12 +40,29 @@ public class YosegiListObjectInspector implements SettableListObjectInspector {
   private final ObjectInspector valueObjectInspector;
   private final IGetField getField;
 
+  private IColumn currentColumn;
+  private int currentIndex = -1;
+  private int currentColumnIndex = -1;
+  private boolean currentIsArray;
+  private int currentStart;
+  private int currentLength;
+  private IColumn currentChildColumn;
+
   /**
    * Initialize by setting list type information.
    */
   public YosegiListObjectInspector( final ListTypeInfo typeInfo ) {
+    this( typeInfo , new SpreadColumnCache() );
+  }
+
+  /**
+   * Initialize by setting list type information and the column cache of the table.
+   * Elements are read at the same time, so the element inspector does not reuse objects.
+   */
+  public YosegiListObjectInspector(
+      final ListTypeInfo typeInfo , final SpreadColumnCache columnCache ) {
     valueObjectInspector = YosegiObjectInspectorFactory.craeteObjectInspectorFromTypeInfo(
-        typeInfo.getListElementTypeInfo() ); 
+        typeInfo.getListElementTypeInfo() , columnCache , false );
     if ( valueObjectInspector.getCategory() == ObjectInspector.Category.PRIMITIVE ) {
       getField = new PrimitiveGetField( (PrimitiveObjectInspector)valueObjectInspector );
     } else if ( valueObjectInspector.getCategory() == ObjectInspector.Category.UNION ) {
@@ -55,8 +74,7 @@ public class YosegiListObjectInspector implements SettableListObjectInspector {
 
   private interface IGetField {
 
-    public Object get(
-        final ColumnAndIndex columnAndIndex , final ArrayCell arrayCell , final int index );
+    public Object get( final IColumn childColumn , final int index , final int columnIndex );
 
   }
 
@@ -68,11 +86,10 @@ public class YosegiListObjectInspector implements SettableListObjectInspector {
     }
 
     @Override
-    public Object get(
-        final ColumnAndIndex columnAndIndex , final ArrayCell arrayCell , final int index ) {
+    public Object get( final IColumn childColumn , final int index , final int columnIndex ) {
       try {
         return PrimitiveToWritableConverter.convert(
-            inspector.getPrimitiveCategory() , arrayCell.getArrayRow( index ) );
+            inspector.getPrimitiveCategory() , childColumn.get( index ) );
       } catch ( IOException ex ) {
         throw new RuntimeException( ex );
       }
@@ -82,11 +99,8 @@ public class YosegiListObjectInspector implements SettableListObjectInspector {
   private static class NestedGetField implements IGetField {
 
     @Override
-    public Object get(
-        final ColumnAndIndex columnAndIndex , final ArrayCell arrayCell , final int index ) {
-      int targetIndex = arrayCell.getStart() + index;
-      return new ColumnAndIndex(
-          columnAndIndex.column.getColumn(0) , targetIndex , columnAndIndex.columnIndex );
+    public Object get( final IColumn childColumn , final int index , final int columnIndex ) {
+      return new ColumnAndIndex( childColumn , index , columnIndex );
     }
   }
 
@@ -99,15 +113,73 @@ public class YosegiListObjectInspector implements SettableListObjectInspector {
     }
 
     @Override
-    public Object get(
-        final ColumnAndIndex columnAndIndex , final ArrayCell arrayCell , final int index ) {
-      int targetIndex = arrayCell.getStart() + index;
-      return unionField.get(
-          new ColumnAndIndex(
-            columnAndIndex.column.getColumn(0) ,
-            targetIndex ,
-            columnAndIndex.columnIndex )
-          );
+    public Object get( final IColumn childColumn , final int index , final int columnIndex ) {
+      return unionField.get( new ColumnAndIndex( childColumn , index , columnIndex ) );
+    }
+
+  }
+
+  /**
+   * Load the array cell of the cursor.
+   * Hive reads the length and then each element of the same row,
+   * so the range of the last cursor position is kept.
+   * Returns false if the cell is not an array.
+   */
+  private boolean loadArrayCell( final ColumnAndIndex columnAndIndex ) {
+    if ( currentColumn == columnAndIndex.column
+        && currentIndex == columnAndIndex.index
+        && currentColumnIndex == columnAndIndex.columnIndex ) {
+      return currentIsArray;
+    }
+    ICell cell = columnAndIndex.column.get( columnAndIndex.index );
+    currentColumn = columnAndIndex.column;
+    currentIndex = columnAndIndex.index;
+    currentColumnIndex = columnAndIndex.columnIndex;
+    currentIsArray = cell.getType() == ColumnType.ARRAY;
+    if ( currentIsArray ) {
+      ArrayCell arrayCell = (ArrayCell)cell;
+      currentStart = arrayCell.getStart();
+      currentLength = arrayCell.getEnd() - arrayCell.getStart();
+      currentChildColumn = columnAndIndex.column.getColumn(0);
+    } else {
+      currentStart = 0;
+      currentLength = 0;
+      currentChildColumn = null;
+    }
+    return currentIsArray;
+  }
+
+  /**
+   * Read-only view of an array cell.
+   * Elements are converted when they are read.
+   */
+  private class ArrayCellListView extends AbstractList<Object> {
+
+    private final IColumn childColumn;
+    private final int start;
+    private final int length;
+    private final int columnIndex;
+
+    public ArrayCellListView(
+        final IColumn childColumn , final int start , final int length , final int columnIndex ) {
+      this.childColumn = childColumn;
+      this.start = start;
+      this.length = length;
+      this.columnIndex = columnIndex;
+    }
+
+    @Override
+    public Object get( final int index ) {
+      if ( index < 0 || length <= index ) {
+        throw new IndexOutOfBoundsException(
+            String.format( "Index: %d, Size: %d" , index , length ) );
+      }
+      return getField.get( childColumn , start + index , columnIndex );
+    }
+
+    @Override
+    public int size() {
+      return length;
     }
 
   }
@@ -121,12 +193,11 @@ public class YosegiListObjectInspector implements SettableListObjectInspector {
   public Object getListElement( final Object object, final int index ) {
     if ( object instanceof ColumnAndIndex ) {
       ColumnAndIndex columnAndIndex = (ColumnAndIndex) object;
-      ICell cell = columnAndIndex.column.get( columnAndIndex.index );
-      if ( cell.getType() == ColumnType.ARRAY ) {
-        return getField.get( columnAndIndex , (ArrayCell)cell , index );
-      } else {
+      if ( ! loadArrayCell( columnAndIndex ) || index < 0 || currentLength <= index ) {
         return null;
       }
+      return getField.get(
+          currentChildColumn , currentStart + index , columnAndIndex.columnIndex );
     } else {
       return ( (List)object ).get( index );
     }
@@ -139,13 +210,8 @@ public class YosegiListObjectInspector implements SettableListObjectInspector {
     }
 
     if ( object instanceof ColumnAndIndex ) {
-      ColumnAndIndex columnAndIndex = (ColumnAndIndex) object;
-      ICell cell = columnAndIndex.column.get( columnAndIndex.index );
-      if ( cell.getType() == ColumnType.ARRAY ) {
-        ArrayCell arrayCell = (ArrayCell)cell;
-        return arrayCell.getEnd() - arrayCell.getStart();
-      }
-      return 0;
+      loadArrayCell( (ColumnAndIndex) object );
+      return currentLength;
     } else {
       return ( (List)object ).size();
     }
@@ -155,15 +221,9 @@ public class YosegiListObjectInspector implements SettableListObjectInspector {
   public List<?> getList( final Object object ) {
     if ( object instanceof ColumnAndIndex ) {
       ColumnAndIndex columnAndIndex = (ColumnAndIndex) object;
-      ICell cell = columnAndIndex.column.get( columnAndIndex.index );
-      if ( cell.getType() == ColumnType.ARRAY ) {
-        ArrayCell arrayCell = (ArrayCell)cell;
-        List<Object> result = new ArrayList<Object>();
-        int length = arrayCell.getEnd() - arrayCell.getStart();
-        for ( int i = 0 ; i < length ; i++ ) {
-          result.add( getField.get( columnAndIndex , arrayCell , i ) );
-        }
-        return result;
+      if ( loadArrayCell( columnAndIndex ) ) {
+        return new ArrayCellListView(
+            currentChildColumn , currentStart , currentLength , columnAndIndex.columnIndex );
       }
       return null;
     } else {
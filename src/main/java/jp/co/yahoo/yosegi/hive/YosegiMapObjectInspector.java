@@ -20,6 +20,7 @@ package jp.co.yahoo.yosegi.hive;
 
 import jp.co.yahoo.yosegi.hive.io.ColumnAndIndex;
 import jp.co.yahoo.yosegi.hive.io.PrimitiveToWritableConverter;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
 import jp.co.yahoo.yosegi.spread.column.IColumn;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
@@ -33,19 +34,37 @@ import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.UnionTypeInfo;
 
 import java.io.IOException;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.Iterator;
 import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
 
 public class YosegiMapObjectInspector implements SettableMapObjectInspector {
 
   private final StringObjectInspector keyObjectInspector;
   private final ObjectInspector valueObjectInspector;
   private final IGetField getField;
+  private final SpreadColumnCache columnCache;
 
   /**
    * Initialize by setting map type information.
    */
   public YosegiMapObjectInspector( final MapTypeInfo typeInfo ) {
+    this( typeInfo , new SpreadColumnCache() );
+  }
+
+  /**
+   * Initialize by setting map type information and the column cache of the table.
+   * Values of different keys are read at the same time,
+   * so the value inspector does not reuse objects.
+   */
+  public YosegiMapObjectInspector(
+      final MapTypeInfo typeInfo , final SpreadColumnCache columnCache ) {
+    this.columnCache = columnCache;
     TypeInfo keyTypeInfo = typeInfo.getMapKeyTypeInfo();
     if ( keyTypeInfo.getCategory() == ObjectInspector.Category.PRIMITIVE
         && ( (PrimitiveTypeInfo)keyTypeInfo ).getPrimitiveCategory() == PrimitiveCategory.STRING ) {
@@ -55,7 +74,7 @@ public class YosegiMapObjectInspector implements SettableMapObjectInspector {
     }
 
     valueObjectInspector = YosegiObjectInspectorFactory.craeteObjectInspectorFromTypeInfo(
-        typeInfo.getMapValueTypeInfo() ); 
+        typeInfo.getMapValueTypeInfo() , columnCache , false );
 
     if ( valueObjectInspector.getCategory() == ObjectInspector.Category.PRIMITIVE ) {
       getField = new PrimitiveGetField( (PrimitiveObjectInspector)valueObjectInspector );
@@ -127,7 +146,10 @@ public class YosegiMapObjectInspector implements SettableMapObjectInspector {
   public Object getMapValueElement( final Object object, final Object key ) {
     if ( object instanceof ColumnAndIndex ) {
       ColumnAndIndex columnAndIndex = (ColumnAndIndex) object;
-      IColumn childColumn = columnAndIndex.column.getColumn( key.toString() );
+      IColumn childColumn = columnCache.getColumn( columnAndIndex , key.toString() );
+      if ( isNull( childColumn , columnAndIndex.index ) ) {
+        return null;
+      }
       return getField.get( childColumn , columnAndIndex.index , columnAndIndex.columnIndex );
     } else {
       Map map = (Map)object;
@@ -138,15 +160,7 @@ public class YosegiMapObjectInspector implements SettableMapObjectInspector {
   @Override
   public Map<?, ?> getMap( final Object object ) {
     if ( object instanceof ColumnAndIndex ) {
-      ColumnAndIndex columnAndIndex = (ColumnAndIndex) object;
-      int childColumnSize = columnAndIndex.column.getColumnSize();
-      Map<Object,Object> result = new HashMap<Object, Object>( childColumnSize );
-      for ( int i = 0 ; i < childColumnSize ; i++ ) {
-        IColumn childColumn = columnAndIndex.column.getColumn(i);
-        result.put( childColumn.getColumnName() ,
-            getField.get( childColumn , columnAndIndex.index , columnAndIndex.columnIndex ) );
-      }
-      return result;
+      return new ColumnMapView( (ColumnAndIndex) object );
     } else {
       return (Map<?,?>)object;
     }
@@ -154,9 +168,128 @@ public class YosegiMapObjectInspector implements SettableMapObjectInspector {
 
   @Override
   public int getMapSize( final Object object ) {
+    if ( object == null ) {
+      return -1;
+    }
+    if ( object instanceof ColumnAndIndex ) {
+      ColumnAndIndex columnAndIndex = (ColumnAndIndex) object;
+      int childColumnSize = columnAndIndex.column.getColumnSize();
+      int size = 0;
+      for ( int i = 0 ; i < childColumnSize ; i++ ) {
+        if ( ! isNull( columnAndIndex.column.getColumn(i) , columnAndIndex.index ) ) {
+          size++;
+        }
+      }
+      return size;
+    }
     return ((Map)object).size();
   }
 
+  private static boolean isNull( final IColumn childColumn , final int index ) {
+    return childColumn.get( index ).getType() == ColumnType.NULL;
+  }
+
+  /**
+   * Read-only view of a row of the map column.
+   * Values are converted when they are read, and keys whose cell is null are skipped.
+   */
+  private class ColumnMapView extends AbstractMap<Object,Object> {
+
+    private final ColumnAndIndex columnAndIndex;
+    private Set<Map.Entry<Object,Object>> entrySet;
+
+    public ColumnMapView( final ColumnAndIndex columnAndIndex ) {
+      this.columnAndIndex = new ColumnAndIndex(
+          columnAndIndex.column , columnAndIndex.index , columnAndIndex.columnIndex );
+    }
+
+    private IColumn getChildColumn( final Object key ) {
+      if ( key == null ) {
+        return null;
+      }
+      IColumn childColumn = columnCache.getColumn( columnAndIndex , key.toString() );
+      if ( childColumn == null || isNull( childColumn , columnAndIndex.index ) ) {
+        return null;
+      }
+      return childColumn;
+    }
+
+    @Override
+    public Object get( final Object key ) {
+      IColumn childColumn = getChildColumn( key );
+      if ( childColumn == null ) {
+        return null;
+      }
+      return getField.get( childColumn , columnAndIndex.index , columnAndIndex.columnIndex );
+    }
+
+    @Override
+    public boolean containsKey( final Object key ) {
+      return getChildColumn( key ) != null;
+    }
+
+    @Override
+    public int size() {
+      return entrySet().size();
+    }
+
+    @Override
+    public Set<Map.Entry<Object,Object>> entrySet() {
+      if ( entrySet == null ) {
+        entrySet = new ColumnEntrySet();
+      }
+      return entrySet;
+    }
+
+    private class ColumnEntrySet extends AbstractSet<Map.Entry<Object,Object>> {
+
+      private final int[] childColumnIndexArray;
+
+      public ColumnEntrySet() {
+        int childColumnSize = columnAndIndex.column.getColumnSize();
+        int[] indexArray = new int[childColumnSize];
+        int size = 0;
+        for ( int i = 0 ; i < childColumnSize ; i++ ) {
+          if ( ! isNull( columnAndIndex.column.getColumn(i) , columnAndIndex.index ) ) {
+            indexArray[size++] = i;
+          }
+        }
+        childColumnIndexArray = Arrays.copyOf( indexArray , size );
+      }
+
+      @Override
+      public int size() {
+        return childColumnIndexArray.length;
+      }
+
+      @Override
+      public Iterator<Map.Entry<Object,Object>> iterator() {
+        return new Iterator<Map.Entry<Object,Object>>() {
+          private int current;
+
+          @Override
+          public boolean hasNext() {
+            return current < childColumnIndexArray.length;
+          }
+
+          @Override
+          public Map.Entry<Object,Object> next() {
+            if ( ! hasNext() ) {
+              throw new NoSuchElementException();
+            }
+            IColumn childColumn =
+                columnAndIndex.column.getColumn( childColumnIndexArray[current++] );
+            return new AbstractMap.SimpleImmutableEntry<Object,Object>(
+                childColumn.getColumnName() ,
+                getField.get( childColumn , columnAndIndex.index , columnAndIndex.columnIndex ) );
+          }
+        };
+      }
+
+    }
+
+  }
+
   @Override
   public String getTypeName() {
     StringBuilder buffer = new StringBuilder();
@@ -39,18 +39,31 @@ public final class YosegiObjectInspectorFactory {
    * Create ObjectInspector from TypeInfo.
    */
   public static ObjectInspector craeteObjectInspectorFromTypeInfo( final TypeInfo typeInfo ) {
+    return craeteObjectInspectorFromTypeInfo( typeInfo , new SpreadColumnCache() , false );
+  }
+
+  /**
+   * Create ObjectInspector from TypeInfo.
+   * The nested inspectors share the column cache.
+   * If reuseObject is true, struct fields reuse the objects they return between rows.
+   */
+  public static ObjectInspector craeteObjectInspectorFromTypeInfo(
+      final TypeInfo typeInfo ,
+      final SpreadColumnCache columnCache ,
+      final boolean reuseObject ) {
     switch ( typeInfo.getCategory() ) {
       case STRUCT:
-        return new YosegiStructObjectInspector( (StructTypeInfo)typeInfo );
+        return new YosegiStructObjectInspector(
+            (StructTypeInfo)typeInfo , columnCache , reuseObject );
       case MAP:
-        return new YosegiMapObjectInspector( (MapTypeInfo)typeInfo );
+        return new YosegiMapObjectInspector( (MapTypeInfo)typeInfo , columnCache );
       case LIST:
-        return new YosegiListObjectInspector( (ListTypeInfo)typeInfo );
+        return new YosegiListObjectInspector( (ListTypeInfo)typeInfo , columnCache );
       case UNION:
         UnionTypeInfo unionTypeInfo = (UnionTypeInfo)typeInfo;
         List<ObjectInspector> unionList = new ArrayList<ObjectInspector>();
         for ( TypeInfo childTypeInfo : unionTypeInfo.getAllUnionObjectTypeInfos() ) {
-          unionList.add( craeteObjectInspectorFromTypeInfo( childTypeInfo ) );
+          unionList.add( craeteObjectInspectorFromTypeInfo( childTypeInfo , columnCache , false ) );
         }
         return ObjectInspectorFactory.getStandardUnionObjectInspector( unionList );
       case PRIMITIVE:
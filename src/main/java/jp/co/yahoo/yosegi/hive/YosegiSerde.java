@@ -29,20 +29,15 @@ import org.apache.hadoop.hive.serde2.SerDeException;
 import org.apache.hadoop.hive.serde2.SerDeStats;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
 import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
-import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
-import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoUtils;
 import org.apache.hadoop.io.Writable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
-import java.util.ArrayList;
 import java.util.HashMap;
-import java.util.HashSet;
 import java.util.Iterator;
 import java.util.Map;
 import java.util.Properties;
-import java.util.Set;
 
 public class YosegiSerde extends AbstractSerDe {
 
@@ -54,54 +49,6 @@ public class YosegiSerde extends AbstractSerDe {
   private HiveStructParser parser;
   private ObjectInspector inspector;
 
-  private StructTypeInfo getAllReadTypeInfo(
-      final String columnNameProperty , final String columnTypeProperty ) {
-    ArrayList<TypeInfo> fieldTypes = TypeInfoUtils.getTypeInfosFromTypeString( columnTypeProperty );
-    ArrayList<String> columnNames = new ArrayList<String>();
-    if ( columnNameProperty != null && 0 < columnNameProperty.length() ) {
-      String[] columnNameArray = columnNameProperty.split(",");
-      for ( int i = 0 ; i < columnNameArray.length ; i++ ) {
-        columnNames.add( columnNameArray[i] );
-        filedIndexMap.put( columnNameArray[i] , i );
-      }
-    }
-    StructTypeInfo rootType = new StructTypeInfo();
-
-    rootType.setAllStructFieldNames( columnNames );
-    rootType.setAllStructFieldTypeInfos( fieldTypes );
-
-    return rootType;
-  }
-
-  private StructTypeInfo getColumnProjectionTypeInfo(
-      final String columnNameProperty ,
-      final String columnTypeProperty ,
-      final String projectionColumnNames ) {
-    Set<String> columnNameSet = new HashSet<String>();
-    for ( String columnName : projectionColumnNames.split(",") ) {
-      columnNameSet.add( columnName );
-    }
-
-    ArrayList<TypeInfo> fieldTypes = TypeInfoUtils.getTypeInfosFromTypeString( columnTypeProperty );
-    String[] splitNames = columnNameProperty.split(",");
-
-    ArrayList<String> projectionColumnNameList = new ArrayList<String>();
-    ArrayList<TypeInfo> projectionFieldTypeList = new ArrayList<TypeInfo>();
-    for ( int i = 0 ; i < fieldTypes.size() ; i++ ) {
-      if ( columnNameSet.contains( splitNames[i] ) ) {
-        projectionColumnNameList.add( splitNames[i] );
-        projectionFieldTypeList.add( fieldTypes.get(i) );
-      }
-      filedIndexMap.put( splitNames[i] , i );
-    }
-    StructTypeInfo rootType = new StructTypeInfo();
-
-    rootType.setAllStructFieldNames( projectionColumnNameList );
-    rootType.setAllStructFieldTypeInfos( projectionFieldTypeList );
-
-    return rootType;
-  }
-
   @Override
   public void initialize(
       final Configuration conf, final Properties table ) throws SerDeException {
@@ -145,15 +92,16 @@ public class YosegiSerde extends AbstractSerDe {
     String projectionColumnNames =
         conf.get( ColumnProjectionUtils.READ_COLUMN_NAMES_CONF_STR , "" );
 
-    StructTypeInfo rootType;
-    if ( projectionColumnNames.isEmpty() ) {
-      rootType = getAllReadTypeInfo( columnNameProperty , columnTypeProperty );
-    } else {
-      rootType = getColumnProjectionTypeInfo(
-          columnNameProperty , columnTypeProperty , projectionColumnNames );
+    if ( columnNameProperty != null && 0 < columnNameProperty.length() ) {
+      String[] columnNameArray = columnNameProperty.split(",");
+      for ( int i = 0 ; i < columnNameArray.length ; i++ ) {
+        filedIndexMap.put( columnNameArray[i] , i );
+      }
     }
+    StructTypeInfo rootType = YosegiColumnTypeUtil.createProjectionTypeInfo(
+        columnNameProperty , columnTypeProperty , projectionColumnNames );
 
-    inspector = YosegiObjectInspectorFactory.craeteObjectInspectorFromTypeInfo( rootType );
+    inspector = new YosegiStructObjectInspector( rootType , true );
   }
 
   @Override
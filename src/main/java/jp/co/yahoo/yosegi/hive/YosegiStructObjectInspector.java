@@ -18,8 +18,11 @@
 
 package jp.co.yahoo.yosegi.hive;
 
+import jp.co.yahoo.yosegi.hive.SpreadColumnCache.ChildColumnReference;
 import jp.co.yahoo.yosegi.hive.io.ColumnAndIndex;
+import jp.co.yahoo.yosegi.hive.io.DecodedRow;
 import jp.co.yahoo.yosegi.hive.io.PrimitiveToWritableConverter;
+import jp.co.yahoo.yosegi.hive.io.PrimitiveWritableConverter;
 import jp.co.yahoo.yosegi.spread.column.IColumn;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
@@ -54,24 +57,34 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
     private final String fieldName;
     private final PrimitiveObjectInspector inspector;
     private final PrimitiveCategory category;
-    private int currentColumnIndex = -1;
-    private IColumn childColumn;
+    private final PrimitiveWritableConverter converter;
+    private final ChildColumnReference childColumnReference;
 
     public YosegiPrimitiveStructField(
-        final int fieldId , final String fieldName , final ObjectInspector inspector ) {
+        final int fieldId ,
+        final String fieldName ,
+        final ObjectInspector inspector ,
+        final SpreadColumnCache columnCache ,
+        final boolean reuseWritable ) {
       this.fieldId = fieldId;
       this.fieldName = fieldName;
+      childColumnReference = columnCache.createReference( fieldName );
       this.inspector = (PrimitiveObjectInspector)inspector;
       this.category = this.inspector.getPrimitiveCategory();
+      if ( reuseWritable ) {
+        converter = new PrimitiveWritableConverter( category );
+      } else {
+        converter = null;
+      }
     }
 
     @Override
     public Object getValue( final ColumnAndIndex columnAndIndex ) {
-      if ( currentColumnIndex != columnAndIndex.columnIndex ) {
-        childColumn = columnAndIndex.column.getColumn( getFieldName() ); 
-        currentColumnIndex = columnAndIndex.columnIndex;
-      }
+      IColumn childColumn = childColumnReference.get( columnAndIndex );
       try {
+        if ( converter != null ) {
+          return converter.convert( childColumn.get( columnAndIndex.index ) );
+        }
         return PrimitiveToWritableConverter.convert(
             category , childColumn.get( columnAndIndex.index ) );
       } catch ( IOException ex ) {
@@ -105,28 +118,37 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
     private final int fieldId;
     private final String fieldName;
     private final ObjectInspector inspector;
+    private final ChildColumnReference childColumnReference;
     private final ColumnAndIndex childColumnAndIndex;
-    private int currentColumnIndex = -1;
 
     public YosegiNestedStructField(
-        final int fieldId , final String fieldName , final ObjectInspector inspector ) {
+        final int fieldId ,
+        final String fieldName ,
+        final ObjectInspector inspector ,
+        final SpreadColumnCache columnCache ,
+        final boolean reuseCursor ) {
       this.fieldId = fieldId;
       this.fieldName = fieldName;
       this.inspector = inspector;
-      childColumnAndIndex = new ColumnAndIndex();
+      childColumnReference = columnCache.createReference( fieldName );
+      if ( reuseCursor ) {
+        childColumnAndIndex = new ColumnAndIndex();
+      } else {
+        childColumnAndIndex = null;
+      }
     }
 
     @Override
     public Object getValue( final ColumnAndIndex columnAndIndex ) {
-      if ( currentColumnIndex != columnAndIndex.columnIndex ) {
-        IColumn childColumn = columnAndIndex.column.getColumn( getFieldName() );
-        childColumnAndIndex.column = childColumn;
-        currentColumnIndex = columnAndIndex.columnIndex;
+      IColumn childColumn = childColumnReference.get( columnAndIndex );
+      if ( childColumnAndIndex == null ) {
+        return new ColumnAndIndex(
+            childColumn , columnAndIndex.index , columnAndIndex.columnIndex );
       }
-      return new ColumnAndIndex(
-          childColumnAndIndex.column ,
-          columnAndIndex.index ,
-          columnAndIndex.columnIndex );
+      childColumnAndIndex.column = childColumn;
+      childColumnAndIndex.index = columnAndIndex.index;
+      childColumnAndIndex.columnIndex = columnAndIndex.columnIndex;
+      return childColumnAndIndex;
     }
 
     @Override
@@ -155,6 +177,7 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
     private final int fieldId;
     private final String fieldName;
     private final StandardUnionObjectInspector inspector;
+    private final ChildColumnReference childColumnReference;
     private final ColumnAndIndex childColumnAndIndex;
     private final UnionField unionField;
 
@@ -162,24 +185,22 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
         final int fieldId ,
         final String fieldName ,
         final StandardUnionObjectInspector inspector ,
-        final UnionTypeInfo unionTypeInfo ) {
+        final UnionTypeInfo unionTypeInfo ,
+        final SpreadColumnCache columnCache ,
+        final boolean reuseUnion ) {
       this.fieldId = fieldId;
       this.fieldName = fieldName;
       this.inspector = inspector;
+      childColumnReference = columnCache.createReference( fieldName );
       childColumnAndIndex = new ColumnAndIndex();
-      childColumnAndIndex.columnIndex = -1;
-      unionField = new UnionField( unionTypeInfo );
+      unionField = new UnionField( unionTypeInfo , reuseUnion );
     }
 
     @Override
     public Object getValue( final ColumnAndIndex columnAndIndex ) {
-      if ( childColumnAndIndex.columnIndex != columnAndIndex.columnIndex ) {
-        IColumn childColumn = columnAndIndex.column.getColumn( getFieldName() );
-        childColumnAndIndex.column = childColumn;
-        childColumnAndIndex.columnIndex = columnAndIndex.columnIndex;
-      }
+      childColumnAndIndex.column = childColumnReference.get( columnAndIndex );
       childColumnAndIndex.index = columnAndIndex.index;
-      
+      childColumnAndIndex.columnIndex = columnAndIndex.columnIndex;
       return unionField.get( childColumnAndIndex );
     }
 
@@ -208,6 +229,29 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
    * Initialize by setting struct type information.
    */
   public YosegiStructObjectInspector( final StructTypeInfo typeInfo ) {
+    this( typeInfo , false );
+  }
+
+  /**
+   * Initialize by setting struct type information.
+   * If reuseWritable is true, each primitive field reuses its Writable between rows.
+   * It is only safe for the row struct, since the elements of an array or a map
+   * can be read at the same time.
+   */
+  public YosegiStructObjectInspector(
+      final StructTypeInfo typeInfo , final boolean reuseWritable ) {
+    this( typeInfo , new SpreadColumnCache() , reuseWritable );
+  }
+
+  /**
+   * Initialize by setting struct type information and the column cache of the table.
+   * If reuseObject is true, the fields reuse the Writables, the unions and the cursors
+   * of nested columns between rows, and the nested structs do the same.
+   */
+  public YosegiStructObjectInspector(
+      final StructTypeInfo typeInfo ,
+      final SpreadColumnCache columnCache ,
+      final boolean reuseObject ) {
     fieldsMap = new HashMap<String,StructField>();
 
     List<String> fieldNameList = typeInfo.getAllStructFieldNames();
@@ -219,8 +263,9 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
         StructField field = new YosegiPrimitiveStructField(
             i ,
             fieldNameList.get(i) ,
-            YosegiObjectInspectorFactory.craeteObjectInspectorFromTypeInfo( fieldTypeList.get(i) )
-            );
+            YosegiObjectInspectorFactory.craeteObjectInspectorFromTypeInfo( fieldTypeList.get(i) ) ,
+            columnCache ,
+            reuseObject );
         fields.add( field );
         fieldsMap.put( fieldNameList.get(i) , field );
       } else if ( fieldTypeList.get(i).getCategory() ==  Category.UNION ) {
@@ -228,17 +273,22 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
             i ,
             fieldNameList.get(i) ,
             (StandardUnionObjectInspector)(
-              YosegiObjectInspectorFactory.craeteObjectInspectorFromTypeInfo( fieldTypeList.get(i) )
+              YosegiObjectInspectorFactory.craeteObjectInspectorFromTypeInfo(
+                fieldTypeList.get(i) , columnCache , false )
             ) ,
-            (UnionTypeInfo)( fieldTypeList.get(i) ) );
+            (UnionTypeInfo)( fieldTypeList.get(i) ) ,
+            columnCache ,
+            reuseObject );
         fields.add( field );
         fieldsMap.put( fieldNameList.get(i) , field );
       } else {
         StructField field = new YosegiNestedStructField(
             i ,
             fieldNameList.get(i) ,
-            YosegiObjectInspectorFactory
-              .craeteObjectInspectorFromTypeInfo( fieldTypeList.get(i) ) );
+            YosegiObjectInspectorFactory.craeteObjectInspectorFromTypeInfo(
+              fieldTypeList.get(i) , columnCache , reuseObject ) ,
+            columnCache ,
+            reuseObject );
         fields.add( field );
         fieldsMap.put( fieldNameList.get(i) , field );
       }
@@ -260,6 +310,8 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
     if ( object instanceof ColumnAndIndex ) {
       YosegiStructField structFiled = (YosegiStructField)field;
       return structFiled.getValue( (ColumnAndIndex) object );
+    } else if ( object instanceof DecodedRow ) {
+      return ( (DecodedRow)object ).get( field.getFieldName() );
     } else {
       return ( (List<Object>)object ).get( field.getFieldID() );
     }
@@ -267,6 +319,14 @@ public class YosegiStructObjectInspector extends SettableStructObjectInspector {
 
   @Override
   public List<Object> getStructFieldsDataAsList( final Object object ) {
+    if ( object instanceof DecodedRow ) {
+      DecodedRow decodedRow = (DecodedRow)object;
+      List<Object> result = new ArrayList<Object>( fields.size() );
+      for ( StructField field : fields ) {
+        result.add( decodedRow.get( field.getFieldName() ) );
+      }
+      return result;
+    }
     if ( object instanceof List ) {
       return (List<Object>) object;
     }
@@ -19,6 +19,7 @@
 package jp.co.yahoo.yosegi.hive.io;
 
 import jp.co.yahoo.yosegi.config.Configuration;
+import jp.co.yahoo.yosegi.hive.YosegiColumnTypeUtil;
 import jp.co.yahoo.yosegi.hive.pushdown.HiveExprOrNode;
 import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
 import org.apache.hadoop.fs.Path;
@@ -30,7 +31,9 @@ import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
 import org.apache.hadoop.hive.ql.plan.MapWork;
 import org.apache.hadoop.hive.ql.plan.PartitionDesc;
 import org.apache.hadoop.hive.ql.plan.TableScanDesc;
+import org.apache.hadoop.hive.serde.serdeConstants;
 import org.apache.hadoop.hive.serde2.ColumnProjectionUtils;
+import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
 import org.apache.hadoop.mapred.FileSplit;
 import org.apache.hadoop.mapred.JobConf;
 
@@ -50,6 +53,7 @@ public class HiveReaderSetting implements IReaderSetting {
   private final boolean isVectorModeFlag;
   private final boolean disableSkipBlock;
   private final boolean disableFilterPushdown;
+  private final StructTypeInfo decodeTypeInfo;
 
   /**
    * Initialize.
@@ -65,6 +69,7 @@ public class HiveReaderSetting implements IReaderSetting {
     this.isVectorModeFlag = isVectorModeFlag;
     this.disableSkipBlock = disableSkipBlock;
     this.disableFilterPushdown = disableFilterPushdown;
+    decodeTypeInfo = null;
   }
 
   /**
@@ -75,6 +80,20 @@ public class HiveReaderSetting implements IReaderSetting {
 
     disableSkipBlock = job.getBoolean( "yosegi.disable.block.skip" , false );
     disableFilterPushdown = job.getBoolean( "yosegi.disable.filter.pushdown" , false );
+    // YosegiStructObjectInspector looks the decoded columns up by name,
+    // so the projected type does not have to match the row type of YosegiSerde.
+    String columnNameProperty = job.get( serdeConstants.LIST_COLUMNS );
+    String columnTypeProperty = job.get( serdeConstants.LIST_COLUMN_TYPES );
+    if ( job.getBoolean( "yosegi.row.decode.spread" , false )
+        && columnNameProperty != null && ! columnNameProperty.isEmpty()
+        && columnTypeProperty != null && ! columnTypeProperty.isEmpty() ) {
+      decodeTypeInfo = YosegiColumnTypeUtil.createProjectionTypeInfo(
+          columnNameProperty ,
+          columnTypeProperty ,
+          job.get( ColumnProjectionUtils.READ_COLUMN_NAMES_CONF_STR , "" ) );
+    } else {
+      decodeTypeInfo = null;
+    }
 
     List<ExprNodeGenericFuncDesc> filterExprs = new ArrayList<ExprNodeGenericFuncDesc>();
     String filterExprSerialized = job.get( TableScanDesc.FILTER_EXPR_CONF_STR );
@@ -207,4 +226,12 @@ public class HiveReaderSetting implements IReaderSetting {
     return node;
   }
 
+  /**
+   * Returns the type of the projected columns if they are decoded once per spread in row mode.
+   * Returns null if the mode is disabled.
+   */
+  public StructTypeInfo getDecodeTypeInfo() {
+    return decodeTypeInfo;
+  }
+
 }
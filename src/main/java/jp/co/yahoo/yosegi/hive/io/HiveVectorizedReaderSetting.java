@@ -22,6 +22,7 @@ import jp.co.yahoo.yosegi.config.Configuration;
 import jp.co.yahoo.yosegi.hive.io.vector.ColumnVectorAssignorFactory;
 import jp.co.yahoo.yosegi.hive.io.vector.IColumnVectorAssignor;
 import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import org.apache.hadoop.hive.common.type.DataTypePhysicalVariation;
 import org.apache.hadoop.hive.ql.exec.Utilities;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatch;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedRowBatchCtx;
@@ -43,6 +44,9 @@ public class HiveVectorizedReaderSetting implements IVectorizedReaderSetting {
   private final IColumnVectorAssignor[] assignors;
   private final int[] needColumnIds;
   private final String[] columnNames;
+  private final boolean isSelectedMode;
+  private final int prefetchSpreadSize;
+  private final int decodeParallelism;
 
   /**
    * Initialize.
@@ -62,6 +66,9 @@ public class HiveVectorizedReaderSetting implements IVectorizedReaderSetting {
     this.assignors = assignors;
     this.needColumnIds = needColumnIds;
     this.columnNames = columnNames;
+    isSelectedMode = false;
+    prefetchSpreadSize = 0;
+    decodeParallelism = 1;
   }
 
   /**
@@ -72,6 +79,9 @@ public class HiveVectorizedReaderSetting implements IVectorizedReaderSetting {
       final JobConf job ,
       final HiveReaderSetting hiveReaderConfig ) throws IOException {
     this.hiveReaderConfig = hiveReaderConfig;
+    isSelectedMode = job.getBoolean( "yosegi.vector.selected.mode" , false );
+    prefetchSpreadSize = job.getInt( "yosegi.vector.prefetch.spread" , 0 );
+    decodeParallelism = job.getInt( "yosegi.vector.decode.parallelism" , 1 );
 
     rbCtx = Utilities.getVectorizedRowBatchCtx( job );
     partitionValues = new Object[rbCtx.getPartitionColumnCount()];
@@ -85,9 +95,16 @@ public class HiveVectorizedReaderSetting implements IVectorizedReaderSetting {
 
     projectionColumn = new boolean[columnNames.length];
     assignors = new IColumnVectorAssignor[columnNames.length];
+    DataTypePhysicalVariation[] dataTypePhysicalVariations =
+        rbCtx.getRowdataTypePhysicalVariations();
     for ( int id : needColumnIds ) {
       projectionColumn[id] = true;
-      assignors[id] = ColumnVectorAssignorFactory.create( typeInfos[id] );
+      if ( dataTypePhysicalVariations == null ) {
+        assignors[id] = ColumnVectorAssignorFactory.create( typeInfos[id] );
+      } else {
+        assignors[id] = ColumnVectorAssignorFactory.create(
+            typeInfos[id] , dataTypePhysicalVariations[id] );
+      }
     }
   }
 
@@ -154,4 +171,19 @@ public class HiveVectorizedReaderSetting implements IVectorizedReaderSetting {
     return columnNames;
   }
 
+  @Override
+  public boolean isSelectedMode() {
+    return isSelectedMode;
+  }
+
+  @Override
+  public int getPrefetchSpreadSize() {
+    return prefetchSpreadSize;
+  }
+
+  @Override
+  public int getDecodeParallelism() {
+    return decodeParallelism;
+  }
+
 }
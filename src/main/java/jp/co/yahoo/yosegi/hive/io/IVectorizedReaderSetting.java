@@ -34,4 +34,10 @@ public interface IVectorizedReaderSetting extends IReaderSetting {
 
   String[] getColumnNames();
 
+  boolean isSelectedMode();
+
+  int getPrefetchSpreadSize();
+
+  int getDecodeParallelism();
+
 }
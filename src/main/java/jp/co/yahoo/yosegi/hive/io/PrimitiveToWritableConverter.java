@@ -51,6 +51,17 @@ public final class PrimitiveToWritableConverter {
   public static Writable convert(
       final PrimitiveCategory primitiveCategory ,
       final ICell target ) throws IOException {
+    return convert( primitiveCategory , target , null );
+  }
+
+  /**
+   * Determine the type of Hive and convert Cell to Writable.
+   * If reuse is a Writable of the category, it is set and returned instead of a new one.
+   */
+  public static Writable convert(
+      final PrimitiveCategory primitiveCategory ,
+      final ICell target ,
+      final Writable reuse ) throws IOException {
     Object obj = target.getRow();
     if ( ! ( obj instanceof PrimitiveObject ) ) {
       return null;
@@ -59,7 +70,7 @@ public final class PrimitiveToWritableConverter {
 
     switch ( primitiveCategory ) {
       case STRING:
-        Text textResult = new Text();
+        Text textResult = reuse instanceof Text ? (Text)reuse : new Text();
         if ( primitiveObject instanceof IBytesLink ) {
           IBytesLink linkObj = (IBytesLink)primitiveObject;
           textResult.set( linkObj.getLinkBytes() , linkObj.getStart() , linkObj.getLength() );
@@ -69,24 +80,29 @@ public final class PrimitiveToWritableConverter {
         }
         return textResult;
       case CHAR:
-        HiveCharWritable charResult = new HiveCharWritable();
+        HiveCharWritable charResult =
+            reuse instanceof HiveCharWritable ? (HiveCharWritable)reuse : new HiveCharWritable();
         charResult.set( primitiveObject.getString() );
         return charResult;
       case VARCHAR:
-        HiveVarcharWritable varcharResult = new HiveVarcharWritable();
+        HiveVarcharWritable varcharResult = reuse instanceof HiveVarcharWritable
+            ? (HiveVarcharWritable)reuse : new HiveVarcharWritable();
         varcharResult.set( primitiveObject.getString() );
         return varcharResult;
       case BINARY:
-        BytesWritable bytesResult = new BytesWritable();
+        BytesWritable bytesResult =
+            reuse instanceof BytesWritable ? (BytesWritable)reuse : new BytesWritable();
         byte[] bytes = primitiveObject.getBytes();
         bytesResult.set( bytes , 0 , bytes.length );
         return bytesResult;
       case BOOLEAN:
-        BooleanWritable booleanResult = new BooleanWritable();
+        BooleanWritable booleanResult =
+            reuse instanceof BooleanWritable ? (BooleanWritable)reuse : new BooleanWritable();
         booleanResult.set( primitiveObject.getBoolean() );
         return booleanResult;
       case BYTE:
-        ByteWritable byteResult = new ByteWritable();
+        ByteWritable byteResult =
+            reuse instanceof ByteWritable ? (ByteWritable)reuse : new ByteWritable();
         try {
           byteResult.set( primitiveObject.getByte() );
         } catch ( NumberFormatException | NullPointerException ex ) {
@@ -94,7 +110,8 @@ public final class PrimitiveToWritableConverter {
         }
         return byteResult;
       case SHORT:
-        ShortWritable shortResult = new ShortWritable();
+        ShortWritable shortResult =
+            reuse instanceof ShortWritable ? (ShortWritable)reuse : new ShortWritable();
         try {
           shortResult.set( primitiveObject.getShort() );
         } catch ( NumberFormatException | NullPointerException ex ) {
@@ -102,7 +119,8 @@ public final class PrimitiveToWritableConverter {
         }
         return shortResult;
       case INT:
-        IntWritable intResult = new IntWritable();
+        IntWritable intResult =
+            reuse instanceof IntWritable ? (IntWritable)reuse : new IntWritable();
         try {
           intResult.set( primitiveObject.getInt() );
         } catch ( NumberFormatException | NullPointerException ex ) {
@@ -110,7 +128,8 @@ public final class PrimitiveToWritableConverter {
         }
         return intResult;
       case LONG:
-        LongWritable longResult = new LongWritable();
+        LongWritable longResult =
+            reuse instanceof LongWritable ? (LongWritable)reuse : new LongWritable();
         try {
           longResult.set( primitiveObject.getLong() );
         } catch ( NumberFormatException | NullPointerException ex ) {
@@ -118,7 +137,8 @@ public final class PrimitiveToWritableConverter {
         }
         return longResult;
       case FLOAT:
-        FloatWritable floatResult = new FloatWritable();
+        FloatWritable floatResult =
+            reuse instanceof FloatWritable ? (FloatWritable)reuse : new FloatWritable();
         try {
           floatResult.set( primitiveObject.getFloat() );
         } catch ( NumberFormatException | NullPointerException ex ) {
@@ -126,7 +146,8 @@ public final class PrimitiveToWritableConverter {
         }
         return floatResult;
       case DOUBLE:
-        DoubleWritable doubleResult = new DoubleWritable();
+        DoubleWritable doubleResult =
+            reuse instanceof DoubleWritable ? (DoubleWritable)reuse : new DoubleWritable();
         try {
           doubleResult.set( primitiveObject.getDouble() );
         } catch ( NumberFormatException | NullPointerException ex ) {
@@ -134,7 +155,8 @@ public final class PrimitiveToWritableConverter {
         }
         return doubleResult;
       case TIMESTAMP:
-        TimestampWritable timestampResult = new TimestampWritable();
+        TimestampWritable timestampResult = reuse instanceof TimestampWritable
+            ? (TimestampWritable)reuse : new TimestampWritable();
         try {
           timestampResult.set( new Timestamp( primitiveObject.getLong() ) );
         } catch ( NumberFormatException | NullPointerException ex ) {
@@ -142,7 +164,8 @@ public final class PrimitiveToWritableConverter {
         }
         return timestampResult;
       case DATE:
-        DateWritable dateResult = new DateWritable();
+        DateWritable dateResult =
+            reuse instanceof DateWritable ? (DateWritable)reuse : new DateWritable();
         try {
           dateResult.set( new Date( primitiveObject.getLong() ) );
         } catch ( NumberFormatException | NullPointerException ex ) {
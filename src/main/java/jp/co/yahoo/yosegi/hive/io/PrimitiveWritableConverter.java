@@ -0,0 +1,52 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io;
+
+import jp.co.yahoo.yosegi.spread.column.ICell;
+
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector.PrimitiveCategory;
+import org.apache.hadoop.io.Writable;
+
+import java.io.IOException;
+
+/**
+ * Converter that sets the cell to its own Writable and returns it.
+ * The returned Writable is valid until the next call.
+ */
+public class PrimitiveWritableConverter {
+
+  private final PrimitiveCategory primitiveCategory;
+  private Writable writable;
+
+  public PrimitiveWritableConverter( final PrimitiveCategory primitiveCategory ) {
+    this.primitiveCategory = primitiveCategory;
+  }
+
+  /**
+   * Convert Cell to the Writable of this converter.
+   */
+  public Writable convert( final ICell target ) throws IOException {
+    Writable result = PrimitiveToWritableConverter.convert( primitiveCategory , target , writable );
+    if ( result != null ) {
+      writable = result;
+    }
+    return result;
+  }
+
+}
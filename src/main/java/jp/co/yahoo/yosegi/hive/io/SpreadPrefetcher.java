@@ -0,0 +1,188 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io;
+
+import jp.co.yahoo.yosegi.reader.YosegiReader;
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.stats.SummaryStats;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+/**
+ * Read the spreads of YosegiReader in a background thread.
+ * At most spreadBudget spreads are kept in the queue.
+ * The reader is only touched by the background thread while it is running,
+ * so the position and the progress are taken with each spread and
+ * follow the spreads that the caller has received.
+ */
+public class SpreadPrefetcher implements Closeable {
+
+  private static final PrefetchedSpread END_OF_SPREAD = new PrefetchedSpread( null , 0 , 0 );
+
+  private final YosegiReader reader;
+  private final BlockingQueue<PrefetchedSpread> queue;
+  private final Thread thread;
+
+  private volatile boolean isClosed;
+  private volatile IOException readError;
+  private volatile long readPos;
+  private volatile float progress;
+  private SummaryStats readStats;
+  private PrefetchedSpread nextSpread;
+  private boolean isEnd;
+
+  private static class PrefetchedSpread {
+
+    private final Spread spread;
+    private final long readPos;
+    private final float progress;
+
+    PrefetchedSpread( final Spread spread , final long readPos , final float progress ) {
+      this.spread = spread;
+      this.readPos = readPos;
+      this.progress = progress;
+    }
+
+  }
+
+  /**
+   * Start reading spreads in a background thread.
+   */
+  public SpreadPrefetcher( final YosegiReader reader , final int spreadBudget ) {
+    if ( spreadBudget <= 0 ) {
+      throw new IllegalArgumentException( "Spread budget must be greater than 0." );
+    }
+    this.reader = reader;
+    queue = new ArrayBlockingQueue<PrefetchedSpread>( spreadBudget );
+    thread = new Thread( this::prefetch , "yosegi-spread-prefetcher" );
+    thread.setDaemon( true );
+    thread.start();
+  }
+
+  /**
+   * END_OF_SPREAD is always queued unless the prefetcher is closed,
+   * so that the caller does not wait forever even if the reader fails.
+   */
+  private void prefetch() {
+    try {
+      while ( ! isClosed && reader.hasNext() ) {
+        Spread spread = reader.next();
+        queue.put( new PrefetchedSpread( spread , reader.getReadPos() ,
+            (float)reader.getBlockReadCount() / (float)reader.getBlockCount() ) );
+      }
+      readStats = reader.getReadStats();
+    } catch ( InterruptedException ex ) {
+      // The prefetcher is closed.
+    } catch ( IOException ex ) {
+      readError = ex;
+    } catch ( Throwable ex ) {
+      readError = new IOException( "Failed to read the next spread." , ex );
+    } finally {
+      if ( ! isClosed ) {
+        try {
+          queue.put( END_OF_SPREAD );
+        } catch ( InterruptedException ex ) {
+          // The prefetcher is closed.
+        }
+      }
+    }
+  }
+
+  /**
+   * Wait for the next spread and return whether it exists.
+   */
+  public boolean hasNext() throws IOException {
+    if ( isEnd ) {
+      return false;
+    }
+    if ( nextSpread == null ) {
+      try {
+        nextSpread = queue.take();
+      } catch ( InterruptedException ex ) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException( "Interrupted while waiting for the next spread." );
+      }
+    }
+    if ( nextSpread == END_OF_SPREAD ) {
+      isEnd = true;
+      if ( readError != null ) {
+        throw readError;
+      }
+      return false;
+    }
+    return true;
+  }
+
+  /**
+   * Return the next spread.
+   */
+  public Spread next() throws IOException {
+    if ( ! hasNext() ) {
+      throw new IOException( "There is no next spread." );
+    }
+    readPos = nextSpread.readPos;
+    progress = nextSpread.progress;
+    Spread result = nextSpread.spread;
+    nextSpread = null;
+    return result;
+  }
+
+  /**
+   * Returns the read position of the reader when the last received spread was read.
+   */
+  public long getReadPos() {
+    return readPos;
+  }
+
+  /**
+   * Returns the progress of the reader when the last received spread was read.
+   */
+  public float getProgress() {
+    return progress;
+  }
+
+  /**
+   * Returns the read stats of the reader.
+   * This is available after hasNext returns false.
+   */
+  public SummaryStats getReadStats() {
+    return readStats;
+  }
+
+  /**
+   * Stop the background thread. The reader is not closed.
+   */
+  @Override
+  public void close() throws IOException {
+    isClosed = true;
+    thread.interrupt();
+    try {
+      thread.join();
+    } catch ( InterruptedException ex ) {
+      Thread.currentThread().interrupt();
+      throw new InterruptedIOException( "Interrupted while stopping the prefetch thread." );
+    }
+    queue.clear();
+  }
+
+}
@@ -0,0 +1,147 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io;
+
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector.Category;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector.PrimitiveCategory;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.io.Writable;
+
+import java.io.IOException;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Decode the projected primitive columns of a spread into Writable arrays.
+ * The arrays and the Writables in them are reused across spreads,
+ * so one Writable per row and column of the largest spread is kept until the reader is closed.
+ * Nested columns are not decoded and are returned as ColumnAndIndex.
+ */
+public class SpreadWritableDecoder {
+
+  private final String[] columnNames;
+  private final Map<String,Integer> columnNumberMap = new HashMap<String,Integer>();
+  private final PrimitiveCategory[] categories;
+  private final Writable[][] writables;
+  private final boolean[][] isNull;
+  private final ColumnAndIndex[] nestedCursors;
+  private IExpressionIndex currentIndexList;
+  private int rowCount;
+
+  /**
+   * Initialize with the projected columns in the order of the struct fields.
+   */
+  public SpreadWritableDecoder( final StructTypeInfo typeInfo ) {
+    List<String> fieldNameList = typeInfo.getAllStructFieldNames();
+    List<TypeInfo> fieldTypeList = typeInfo.getAllStructFieldTypeInfos();
+    columnNames = fieldNameList.toArray( new String[fieldNameList.size()] );
+    categories = new PrimitiveCategory[columnNames.length];
+    writables = new Writable[columnNames.length][];
+    isNull = new boolean[columnNames.length][];
+    nestedCursors = new ColumnAndIndex[columnNames.length];
+    for ( int i = 0 ; i < columnNames.length ; i++ ) {
+      columnNumberMap.put( columnNames[i] , i );
+      TypeInfo fieldType = fieldTypeList.get(i);
+      if ( fieldType.getCategory() == Category.PRIMITIVE ) {
+        categories[i] = ( (PrimitiveTypeInfo)fieldType ).getPrimitiveCategory();
+        writables[i] = new Writable[0];
+        isNull[i] = new boolean[0];
+      } else {
+        nestedCursors[i] = new ColumnAndIndex();
+      }
+    }
+  }
+
+  public int getColumnSize() {
+    return columnNames.length;
+  }
+
+  /**
+   * Returns the number of the column, or -1 if the column is not decoded.
+   */
+  public int getColumnNumber( final String columnName ) {
+    Integer columnNumber = columnNumberMap.get( columnName );
+    if ( columnNumber == null ) {
+      return -1;
+    }
+    return columnNumber.intValue();
+  }
+
+  public int getRowCount() {
+    return rowCount;
+  }
+
+  /**
+   * Decode the selected rows of the spread.
+   */
+  public void decode(
+      final Spread spread ,
+      final IExpressionIndex indexList ,
+      final int columnIndex ) throws IOException {
+    currentIndexList = indexList;
+    rowCount = indexList.size();
+    for ( int i = 0 ; i < columnNames.length ; i++ ) {
+      IColumn column = spread.getColumn( columnNames[i] );
+      if ( categories[i] == null ) {
+        nestedCursors[i].column = column;
+        nestedCursors[i].columnIndex = columnIndex;
+        continue;
+      }
+      if ( writables[i].length < rowCount ) {
+        writables[i] = Arrays.copyOf( writables[i] , rowCount );
+        isNull[i] = new boolean[rowCount];
+      }
+      Writable[] columnWritables = writables[i];
+      boolean[] columnIsNull = isNull[i];
+      for ( int row = 0 ; row < rowCount ; row++ ) {
+        Writable result = PrimitiveToWritableConverter.convert(
+            categories[i] , column.get( indexList.get( row ) ) , columnWritables[row] );
+        // The Writable of a null row is kept in the slot for later spreads.
+        columnIsNull[row] = result == null;
+        if ( result != null ) {
+          columnWritables[row] = result;
+        }
+      }
+    }
+  }
+
+  /**
+   * Returns the value of the column at the row of the current spread.
+   */
+  public Object get( final int columnNumber , final int row ) {
+    if ( categories[columnNumber] == null ) {
+      ColumnAndIndex cursor = nestedCursors[columnNumber];
+      cursor.index = currentIndexList.get( row );
+      return cursor;
+    }
+    if ( isNull[columnNumber][row] ) {
+      return null;
+    }
+    return writables[columnNumber][row];
+  }
+
+}
@@ -0,0 +1,69 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io;
+
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * Row mode reader that decodes the projected columns once per spread.
+ */
+public class YosegiHiveDecodedLineReader extends AbstractYosegiHiveLineReader<DecodedRow> {
+
+  private final SpreadWritableDecoder decoder;
+
+  /**
+   * Initialize by setting InputStream of file.
+   */
+  public YosegiHiveDecodedLineReader(
+      final InputStream in ,
+      final long dataLength ,
+      final long start ,
+      final long length ,
+      final IReaderSetting setting ,
+      final IJobReporter reporter ,
+      final SpreadCounter spreadCounter ,
+      final SpreadWritableDecoder decoder ) throws IOException {
+    super( in , dataLength , start , length , setting , reporter , spreadCounter );
+    this.decoder = decoder;
+  }
+
+  @Override
+  public DecodedRow createValue() {
+    return new DecodedRow();
+  }
+
+  @Override
+  protected void setSpread(
+      final Spread spread ,
+      final IExpressionIndex indexList ,
+      final int columnIndex ) throws IOException {
+    decoder.decode( spread , indexList , columnIndex );
+  }
+
+  @Override
+  protected void setValue( final DecodedRow value , final int row ) throws IOException {
+    value.decoder = decoder;
+    value.row = row;
+  }
+
+}
@@ -21,6 +21,8 @@ package jp.co.yahoo.yosegi.hive.io;
 import jp.co.yahoo.yosegi.hive.io.vector.IColumnVectorAssignor;
 import jp.co.yahoo.yosegi.reader.YosegiReader;
 import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
 import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
 import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
 import jp.co.yahoo.yosegi.spread.expression.IndexFactory;
@@ -34,13 +36,19 @@ import org.slf4j.LoggerFactory;
 
 import java.io.IOException;
 import java.io.InputStream;
+import java.io.InterruptedIOException;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 public class YosegiHiveDirectVectorizedReader
     implements RecordReader<NullWritable, VectorizedRowBatch> {
 
   private static final Logger LOG =
       LoggerFactory.getLogger( YosegiHiveDirectVectorizedReader.class );
+  private static final int MIN_PARALLEL_DECODE_COLUMN_SIZE = 8;
 
   private final YosegiReader currentReader = new YosegiReader();
   private final IJobReporter reporter;
@@ -49,12 +57,20 @@ public class YosegiHiveDirectVectorizedReader
   private final IVectorizedReaderSetting setting;
   private final int[] needColumnIds;
   private final String[] columnNames;
+  private final boolean isSelectedMode;
+  private final SpreadPrefetcher prefetcher;
+  private final ForkJoinPool decodePool;
+  private final ColumnDecodeTask[] decodeTasks;
+  private final Future<?>[] decodeFutures;
 
   private boolean isEnd;
   private IExpressionIndex currentIndexList;
+  private IExpressionIndex currentSpreadIndexList;
+  private int currentSpreadSize;
   private int currentIndex;
   private int indexSize;
   private int readSpreadCount;
+  private int filteredSpreadCount;
 
   /**
    * InputStream is set and initialized.
@@ -76,10 +92,60 @@ public class YosegiHiveDirectVectorizedReader
     assignors = setting.getAssignors();
     needColumnIds = setting.getNeedColumnIds();
     columnNames = setting.getColumnNames();
+    isSelectedMode = setting.isSelectedMode();
+    if ( 0 < setting.getPrefetchSpreadSize() ) {
+      prefetcher = new SpreadPrefetcher( currentReader , setting.getPrefetchSpreadSize() );
+    } else {
+      prefetcher = null;
+    }
+    if ( 1 < setting.getDecodeParallelism()
+        && MIN_PARALLEL_DECODE_COLUMN_SIZE <= needColumnIds.length ) {
+      decodePool = new ForkJoinPool( setting.getDecodeParallelism() );
+      decodeTasks = new ColumnDecodeTask[needColumnIds.length];
+      for ( int i = 0 ; i < needColumnIds.length ; i++ ) {
+        decodeTasks[i] = new ColumnDecodeTask( needColumnIds[i] );
+      }
+      decodeFutures = new Future<?>[needColumnIds.length];
+    } else {
+      decodePool = null;
+      decodeTasks = null;
+      decodeFutures = null;
+    }
+  }
+
+  /**
+   * Bind a projected column of the spread to its assignor.
+   * Yosegi decodes a column when it is accessed first,
+   * so the first selected row is read here to decode the column in the pool.
+   */
+  private class ColumnDecodeTask implements Callable<Void> {
+
+    private final int colIndex;
+    private Spread spread;
+
+    ColumnDecodeTask( final int colIndex ) {
+      this.colIndex = colIndex;
+    }
+
+    @Override
+    public Void call() throws IOException {
+      IColumn column = spread.getColumn( columnNames[colIndex] );
+      spread = null;
+      column.get( currentIndexList.get( 0 ) );
+      assignors[colIndex].setColumn( indexSize , column );
+      return null;
+    }
+
   }
 
   @Override
   public void close() throws IOException {
+    if ( prefetcher != null ) {
+      prefetcher.close();
+    }
+    if ( decodePool != null ) {
+      decodePool.shutdownNow();
+    }
     currentReader.close();
   }
 
@@ -93,21 +159,58 @@ public class YosegiHiveDirectVectorizedReader
     return setting.createVectorizedRowBatch();
   }
 
+  /**
+   * While the prefetcher is running, the reader is owned by the prefetch thread,
+   * so the position is taken from the prefetcher.
+   */
   @Override
   public long getPos() throws IOException {
+    if ( prefetcher != null ) {
+      return prefetcher.getReadPos();
+    }
     return currentReader.getReadPos();
   }
 
   @Override
   public float getProgress() throws IOException {
+    if ( prefetcher != null ) {
+      return prefetcher.getProgress();
+    }
     return (float)currentReader.getBlockReadCount() / (float)currentReader.getBlockCount();
   }
 
+  private SummaryStats getReadStats() throws IOException {
+    if ( prefetcher != null ) {
+      return prefetcher.getReadStats();
+    }
+    return currentReader.getReadStats();
+  }
+
+  private boolean hasNextSpread() throws IOException {
+    if ( prefetcher != null ) {
+      return prefetcher.hasNext();
+    }
+    return currentReader.hasNext();
+  }
+
+  private Spread nextSpread() throws IOException {
+    if ( prefetcher != null ) {
+      return prefetcher.next();
+    }
+    return currentReader.next();
+  }
+
+  /**
+   * The filter is evaluated first, which touches only the predicate columns.
+   * The projected columns are bound only when some rows are selected,
+   * so a spread without selected rows never decodes them.
+   * The bytes of all read columns are still loaded by YosegiReader.
+   */
   private boolean setSpread() throws IOException {
     if ( isEnd ) {
       return false;
     }
-    Spread spread = currentReader.next();
+    Spread spread = nextSpread();
     readSpreadCount++;
     if ( setting.isDisableFilterPushdown() ) {
       currentIndexList = IndexFactory.toExpressionIndex( spread , null );
@@ -118,15 +221,55 @@ public class YosegiHiveDirectVectorizedReader
     indexSize = currentIndexList.size();
     currentIndex = 0;
     if ( indexSize == 0 ) {
+      filteredSpreadCount++;
       return false;
     }
-    for ( int colIndex : needColumnIds ) {
-      String columnName = columnNames[colIndex];
-      assignors[colIndex].setColumn( indexSize , spread.getColumn( columnName ) );
+    bindProjectionColumns( spread );
+    if ( isSelectedMode ) {
+      currentSpreadSize = spread.size();
+      currentSpreadIndexList = new AllExpressionIndex( currentSpreadSize );
     }
     return true;
   }
 
+  /**
+   * With decodeParallelism, the projected columns are decoded in parallel once per spread.
+   * The batches are assigned sequentially from the decoded columns.
+   */
+  private void bindProjectionColumns( final Spread spread ) throws IOException {
+    if ( decodePool == null ) {
+      for ( int colIndex : needColumnIds ) {
+        String columnName = columnNames[colIndex];
+        assignors[colIndex].setColumn( indexSize , spread.getColumn( columnName ) );
+      }
+      return;
+    }
+
+    for ( int i = 0 ; i < decodeTasks.length ; i++ ) {
+      decodeTasks[i].spread = spread;
+      decodeFutures[i] = decodePool.submit( decodeTasks[i] );
+    }
+    IOException error = null;
+    for ( int i = 0 ; i < decodeFutures.length ; i++ ) {
+      try {
+        decodeFutures[i].get();
+      } catch ( ExecutionException ex ) {
+        if ( error == null ) {
+          Throwable cause = ex.getCause();
+          error = cause instanceof IOException ? (IOException)cause : new IOException( cause );
+        }
+      } catch ( InterruptedException ex ) {
+        Thread.currentThread().interrupt();
+        throw new InterruptedIOException( "Interrupted while decoding columns." );
+      } finally {
+        decodeFutures[i] = null;
+      }
+    }
+    if ( error != null ) {
+      throw error;
+    }
+  }
+
   private void updateCounter( final SummaryStats stats ) {
     if ( ! isEnd ) {
       reporter.incrCounter( "Yosegi_STATS" , "ROWS" , stats.getRowCount() );
@@ -135,6 +278,7 @@ public class YosegiHiveDirectVectorizedReader
       reporter.incrCounter( "Yosegi_STATS" , "LOGICAL_DATA_SIZE" , stats.getLogicalDataSize() );
       reporter.incrCounter( "Yosegi_STATS" , "LOGICAL_TOTAL_CARDINALITY" , stats.getCardinality() );
       reporter.incrCounter( "Yosegi_STATS" , "SPREAD" , readSpreadCount );
+      reporter.incrCounter( "Yosegi_STATS" , "FILTERED_SPREAD" , filteredSpreadCount );
     }
   }
 
@@ -145,38 +289,73 @@ public class YosegiHiveDirectVectorizedReader
     setting.setPartitionValues( outputBatch );
 
     if ( indexSize <= currentIndex ) {
-      if ( ! currentReader.hasNext() ) {
-        updateCounter( currentReader.getReadStats() );
+      if ( ! hasNextSpread() ) {
+        updateCounter( getReadStats() );
         outputBatch.endOfFile = true;
         isEnd = true;
         return false;
       }
       while ( ! setSpread() ) {
-        if ( ! currentReader.hasNext() ) {
-          updateCounter( currentReader.getReadStats() );
+        if ( ! hasNextSpread() ) {
+          updateCounter( getReadStats() );
           outputBatch.endOfFile = true;
           isEnd = true;
           return false;
         }
       }
     }
+    if ( isSelectedMode ) {
+      setSelectedRows( outputBatch );
+    } else {
+      setGatheredRows( outputBatch );
+    }
+    if ( indexSize <= currentIndex && ! hasNextSpread() ) {
+      outputBatch.endOfFile = true;
+    }
+
+    return outputBatch.size > 0;
+  }
+
+  private void setGatheredRows( final VectorizedRowBatch outputBatch ) throws IOException {
     int maxSize = outputBatch.getMaxSize();
     if ( indexSize < currentIndex + maxSize ) {
       maxSize = indexSize - currentIndex;
     }
 
-    for ( int colIndex : needColumnIds ) {
-      assignors[colIndex].setColumnVector(
-          outputBatch.cols[colIndex] , currentIndexList , currentIndex , maxSize );
-    }
+    assignColumns( outputBatch , currentIndexList , currentIndex , maxSize );
     outputBatch.size = maxSize;
-
     currentIndex += maxSize;
-    if ( indexSize <= currentIndex && ! currentReader.hasNext() ) {
-      outputBatch.endOfFile = true;
+  }
+
+  /**
+   * Assign a contiguous range of the spread starting from the next selected row,
+   * and mark the selected rows in it with VectorizedRowBatch.selected.
+   */
+  private void setSelectedRows( final VectorizedRowBatch outputBatch ) throws IOException {
+    int startRow = currentIndexList.get( currentIndex );
+    int endRow = Math.min( startRow + outputBatch.getMaxSize() , currentSpreadSize );
+    int selectedSize = 0;
+    while ( currentIndex < indexSize && currentIndexList.get( currentIndex ) < endRow ) {
+      outputBatch.selected[selectedSize] = currentIndexList.get( currentIndex ) - startRow;
+      selectedSize++;
+      currentIndex++;
     }
+    int rangeSize = outputBatch.selected[selectedSize - 1] + 1;
 
-    return outputBatch.size > 0;
+    assignColumns( outputBatch , currentSpreadIndexList , startRow , rangeSize );
+    outputBatch.size = selectedSize;
+    outputBatch.selectedInUse = selectedSize != rangeSize;
+  }
+
+  private void assignColumns(
+      final VectorizedRowBatch outputBatch ,
+      final IExpressionIndex indexList ,
+      final int start ,
+      final int length ) throws IOException {
+    for ( int colIndex : needColumnIds ) {
+      assignors[colIndex].setColumnVector(
+          outputBatch.cols[colIndex] , indexList , start , length );
+    }
   }
 
 }
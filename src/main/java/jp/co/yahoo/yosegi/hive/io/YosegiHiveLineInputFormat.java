@@ -66,15 +66,22 @@ public class YosegiHiveLineInputFormat extends FileInputFormat<NullWritable,Colu
           new HiveVectorizedReaderSetting( fileSplit , job , hiveConfig );
       return (RecordReader)new YosegiHiveDirectVectorizedReader(
           in , fileLength , start , length , vectorizedSetting , jobReporter );
+    } else if ( hiveConfig.getDecodeTypeInfo() != null ) {
+      return (RecordReader)new YosegiHiveDecodedLineReader(
+          in , fileLength , start , length , hiveConfig , jobReporter , spreadCounter ,
+          new SpreadWritableDecoder( hiveConfig.getDecodeTypeInfo() ) );
     } else {
       return new YosegiHiveLineReader(
           in , fileLength , start , length , hiveConfig , jobReporter , spreadCounter );
     }
   }
 
+  /**
+   * Small precision decimals can be read as Decimal64ColumnVector.
+   */
   @Override
   public VectorizedSupport.Support[] getSupportedFeatures() {
-    return null;
+    return new VectorizedSupport.Support[]{ VectorizedSupport.Support.DECIMAL_64 };
   }
 
 }
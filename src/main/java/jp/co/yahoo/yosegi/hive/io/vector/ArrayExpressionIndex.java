@@ -0,0 +1,58 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import java.util.Arrays;
+
+/**
+ * Reusable index of child rows, used to assign nested columns.
+ */
+public class ArrayExpressionIndex implements IExpressionIndex {
+
+  private int[] indexArray = new int[1024];
+  private int size;
+
+  public void clear() {
+    size = 0;
+  }
+
+  /**
+   * Add a row number of the target column.
+   */
+  public void add( final int index ) {
+    if ( indexArray.length <= size ) {
+      indexArray = Arrays.copyOf( indexArray , indexArray.length * 2 );
+    }
+    indexArray[size] = index;
+    size++;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public int get( final int index ) {
+    return indexArray[index];
+  }
+
+}
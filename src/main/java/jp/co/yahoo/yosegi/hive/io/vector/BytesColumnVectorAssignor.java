@@ -28,14 +28,49 @@ import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
 
 import java.io.IOException;
+import java.util.Arrays;
+import java.util.IdentityHashMap;
+import java.util.Map;
 
 public class BytesColumnVectorAssignor implements IColumnVectorAssignor {
 
+  private static final int INITIAL_DICTIONARY_BUFFER_SIZE = 1024 * 64;
+  private static final int MAX_DICTIONARY_SIZE = 1024 * 16;
+  private static final int MIN_DICTIONARY_CHECK_ROWS = 1024;
+
+  /**
+   * Rows are the same value if they refer to the same bytes.
+   */
+  private static final IRowValueComparator<BytesColumnVector> VALUE_COMPARATOR =
+      ( columnVector , row1 , row2 ) ->
+          columnVector.vector[row1] == columnVector.vector[row2]
+          && columnVector.start[row1] == columnVector.start[row2]
+          && columnVector.length[row1] == columnVector.length[row2];
+
+  private final Map<PrimitiveObject,Integer> dictionaryIndexMap =
+      new IdentityHashMap<PrimitiveObject,Integer>();
+  private byte[] dictionaryBuffer = new byte[INITIAL_DICTIONARY_BUFFER_SIZE];
+  private int dictionaryBufferLength;
+  private byte[][] entryBuffer = new byte[16][];
+  private int[] entryStart = new int[16];
+  private int[] entryLength = new int[16];
+
+  private final PrimitiveObjectLoader primitiveObjectLoader = new PrimitiveObjectLoader();
   private IColumn column;
+  private boolean useDictionary;
+  private int dictionaryRowCount;
 
   @Override
   public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
     this.column = column;
+    dictionaryIndexMap.clear();
+    dictionaryBufferLength = 0;
+    dictionaryRowCount = 0;
+    useDictionary = true;
+  }
+
+  int getDictionarySize() {
+    return dictionaryIndexMap.size();
   }
 
   @Override
@@ -47,7 +82,11 @@ public class BytesColumnVectorAssignor implements IColumnVectorAssignor {
     BytesColumnVector columnVector = (BytesColumnVector)vector;
 
     PrimitiveObject[] primitiveObjectArray =
-        column.getPrimitiveObjectArray( indexList , start , length );
+        primitiveObjectLoader.load( column , indexList , start , length );
+    if ( primitiveObjectLoader.isAllNull() ) {
+      ColumnVectorNullUtil.setAllNull( columnVector , length );
+      return;
+    }
     for ( int i = 0 ; i < length ; i++ ) {
       if ( primitiveObjectArray[i] == null ) {
         VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
@@ -57,6 +96,15 @@ public class BytesColumnVectorAssignor implements IColumnVectorAssignor {
           columnVector.vector[i] = linkObj.getLinkBytes();
           columnVector.start[i] = linkObj.getStart();
           columnVector.length[i] = linkObj.getLength();
+        } else if ( useDictionary ) {
+          int entryIndex = getEntryIndex( primitiveObjectArray[i] );
+          if ( entryIndex < 0 ) {
+            VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+          } else {
+            columnVector.vector[i] = entryBuffer[entryIndex];
+            columnVector.start[i] = entryStart[entryIndex];
+            columnVector.length[i] = entryLength[entryIndex];
+          }
         } else {
           byte[] strBytes = primitiveObjectArray[i].getBytes();
           if ( strBytes == null ) {
@@ -69,6 +117,52 @@ public class BytesColumnVectorAssignor implements IColumnVectorAssignor {
         }
       }
     }
+    ColumnVectorNullUtil.updateNoNulls( columnVector , length );
+    ColumnVectorNullUtil.setRepeating( columnVector , length , VALUE_COMPARATOR );
+  }
+
+  /**
+   * Yosegi's dictionary encoded columns return the same object for the same dictionary entry,
+   * so the bytes of an entry are copied into the shared buffer only once per spread.
+   * If most rows are new objects, the column is not dictionary encoded
+   * and the dictionary is stopped for the spread.
+   * Returns -1 if the object has no bytes.
+   */
+  private int getEntryIndex( final PrimitiveObject primitiveObject ) throws IOException {
+    dictionaryRowCount++;
+    Integer entryIndex = dictionaryIndexMap.get( primitiveObject );
+    if ( entryIndex != null ) {
+      return entryIndex.intValue();
+    }
+    byte[] strBytes = primitiveObject.getBytes();
+    if ( strBytes == null ) {
+      return -1;
+    }
+    int newEntryIndex = dictionaryIndexMap.size();
+    if ( entryStart.length <= newEntryIndex ) {
+      int newLength = entryStart.length * 2;
+      entryBuffer = Arrays.copyOf( entryBuffer , newLength );
+      entryStart = Arrays.copyOf( entryStart , newLength );
+      entryLength = Arrays.copyOf( entryLength , newLength );
+    }
+    if ( dictionaryBuffer.length < dictionaryBufferLength + strBytes.length ) {
+      // Rows already assigned keep pointing at the old buffer, so it is not copied.
+      dictionaryBuffer = new byte[
+          Math.max( dictionaryBuffer.length * 2 , strBytes.length )];
+      dictionaryBufferLength = 0;
+    }
+    System.arraycopy( strBytes , 0 , dictionaryBuffer , dictionaryBufferLength , strBytes.length );
+    entryBuffer[newEntryIndex] = dictionaryBuffer;
+    entryStart[newEntryIndex] = dictionaryBufferLength;
+    entryLength[newEntryIndex] = strBytes.length;
+    dictionaryBufferLength += strBytes.length;
+    dictionaryIndexMap.put( primitiveObject , newEntryIndex );
+    if ( MAX_DICTIONARY_SIZE <= dictionaryIndexMap.size()
+        || ( MIN_DICTIONARY_CHECK_ROWS <= dictionaryRowCount
+          && dictionaryRowCount < dictionaryIndexMap.size() * 2 ) ) {
+      useDictionary = false;
+    }
+    return newEntryIndex;
   }
 
 }
@@ -18,13 +18,30 @@
 
 package jp.co.yahoo.yosegi.hive.io.vector;
 
+import org.apache.hadoop.hive.common.type.DataTypePhysicalVariation;
+import org.apache.hadoop.hive.serde2.typeinfo.DecimalTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.ListTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.MapTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
 import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
 
 public final class ColumnVectorAssignorFactory {
 
   private ColumnVectorAssignorFactory() {}
 
+  /**
+   * Creates IColumnVectorAssignor from TypeInfo and the physical variation of the vector.
+   */
+  public static IColumnVectorAssignor create(
+      final TypeInfo typeInfo , final DataTypePhysicalVariation dataTypePhysicalVariation ) {
+    if ( dataTypePhysicalVariation == DataTypePhysicalVariation.DECIMAL_64
+        && typeInfo instanceof DecimalTypeInfo ) {
+      return new Decimal64ColumnVectorAssignor( (DecimalTypeInfo)typeInfo );
+    }
+    return create( typeInfo );
+  }
+
   /**
    * Creates IColumnVectorAssignor from TypeInfo.
    */
@@ -50,16 +67,22 @@ public final class ColumnVectorAssignorFactory {
           case DOUBLE:
             return new DoubleColumnVectorAssignor( DoublePrimitiveSetter.getInstance() );
           case DATE:
-          case DECIMAL:
+            return new LongColumnVectorAssignor( DatePrimitiveSetter.getInstance() );
           case TIMESTAMP:
+            return new TimestampColumnVectorAssignor();
+          case DECIMAL:
+            return new DecimalColumnVectorAssignor();
           case VOID:
           default:
             throw new UnsupportedOperationException(
                 "Unsupport vectorize column " + primitiveTypeInfo.getPrimitiveCategory() );
         }
       case STRUCT:
+        return new StructColumnVectorAssignor( (StructTypeInfo)typeInfo );
       case MAP:
+        return new MapColumnVectorAssignor( (MapTypeInfo)typeInfo );
       case LIST:
+        return new ListColumnVectorAssignor( (ListTypeInfo)typeInfo );
       case UNION:
       default:
         throw new UnsupportedOperationException(
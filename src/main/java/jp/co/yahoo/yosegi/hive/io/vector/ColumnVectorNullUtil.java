@@ -0,0 +1,78 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
+
+import java.util.Arrays;
+
+public final class ColumnVectorNullUtil {
+
+  private ColumnVectorNullUtil() {}
+
+  /**
+   * Set all rows to null at once and mark the vector as repeating.
+   */
+  public static void setAllNull( final ColumnVector columnVector , final int length ) {
+    Arrays.fill( columnVector.isNull , 0 , length , true );
+    VectorizedBatchUtil.setNullColIsNullValue( columnVector , 0 );
+    columnVector.noNulls = false;
+    columnVector.isRepeating = true;
+  }
+
+  /**
+   * Set noNulls back to true if no row of the slice is null.
+   */
+  public static void updateNoNulls( final ColumnVector columnVector , final int length ) {
+    if ( columnVector.noNulls ) {
+      return;
+    }
+    boolean[] isNull = columnVector.isNull;
+    for ( int i = 0 ; i < length ; i++ ) {
+      if ( isNull[i] ) {
+        return;
+      }
+    }
+    columnVector.noNulls = true;
+  }
+
+  /**
+   * If all rows have the same value, or all rows are null, only the first slot is used.
+   * Null rows are compared by isNull, the others by the type-specific comparator.
+   */
+  public static <T extends ColumnVector> void setRepeating(
+      final T columnVector , final int length , final IRowValueComparator<T> comparator ) {
+    columnVector.isRepeating = false;
+    if ( length == 0 ) {
+      return;
+    }
+    boolean[] isNull = columnVector.isNull;
+    boolean firstIsNull = ! columnVector.noNulls && isNull[0];
+    for ( int i = 1 ; i < length ; i++ ) {
+      boolean currentIsNull = ! columnVector.noNulls && isNull[i];
+      if ( currentIsNull != firstIsNull
+          || ( ! currentIsNull && ! comparator.isSameValue( columnVector , 0 , i ) ) ) {
+        return;
+      }
+    }
+    columnVector.isRepeating = true;
+  }
+
+}
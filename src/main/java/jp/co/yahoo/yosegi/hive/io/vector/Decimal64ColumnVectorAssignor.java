@@ -0,0 +1,121 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import jp.co.yahoo.yosegi.message.objects.IBytesLink;
+import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.common.type.HiveDecimal;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.Decimal64ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
+import org.apache.hadoop.hive.serde2.io.HiveDecimalWritable;
+import org.apache.hadoop.hive.serde2.typeinfo.DecimalTypeInfo;
+
+import java.io.IOException;
+
+public class Decimal64ColumnVectorAssignor implements IColumnVectorAssignor {
+
+  private final int precision;
+  private final int scale;
+  private final HiveDecimalWritable scratchWritable = new HiveDecimalWritable();
+  private final PrimitiveObjectLoader primitiveObjectLoader = new PrimitiveObjectLoader();
+  private IColumn column;
+  private boolean isIntegralColumn;
+
+  public Decimal64ColumnVectorAssignor( final DecimalTypeInfo typeInfo ) {
+    precision = typeInfo.getPrecision();
+    scale = typeInfo.getScale();
+  }
+
+  @Override
+  public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
+    this.column = column;
+    ColumnType columnType = column.getColumnType();
+    isIntegralColumn = columnType == ColumnType.BYTE
+        || columnType == ColumnType.SHORT
+        || columnType == ColumnType.INTEGER
+        || columnType == ColumnType.LONG;
+  }
+
+  /**
+   * The value is set as a long scaled by the scale of the column.
+   * A writable is reused for parsing, so no HiveDecimal is created for link objects.
+   */
+  @Override
+  public void setColumnVector(
+      final ColumnVector vector ,
+      final IExpressionIndex indexList ,
+      final int start ,
+      final int length ) throws IOException {
+    Decimal64ColumnVector columnVector = (Decimal64ColumnVector)vector;
+    PrimitiveObject[] primitiveObjectArray =
+        primitiveObjectLoader.load( column , indexList , start , length );
+    if ( primitiveObjectLoader.isAllNull() ) {
+      ColumnVectorNullUtil.setAllNull( columnVector , length );
+      return;
+    }
+    for ( int i = 0 ; i < length ; i++ ) {
+      if ( ! setWritable( primitiveObjectArray[i] ) ) {
+        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+        continue;
+      }
+      scratchWritable.mutateEnforcePrecisionScale( precision , scale );
+      if ( ! scratchWritable.isSet() ) {
+        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+        continue;
+      }
+      columnVector.vector[i] = scratchWritable.serialize64( scale );
+    }
+    ColumnVectorNullUtil.updateNoNulls( columnVector , length );
+    LongColumnVectorAssignor.setRepeating( columnVector , length );
+  }
+
+  private boolean setWritable( final PrimitiveObject primitiveObject ) throws IOException {
+    if ( primitiveObject == null ) {
+      return false;
+    }
+    try {
+      if ( isIntegralColumn ) {
+        scratchWritable.setFromLong( primitiveObject.getLong() );
+      } else if ( primitiveObject instanceof IBytesLink ) {
+        IBytesLink linkObj = (IBytesLink)primitiveObject;
+        scratchWritable.setFromBytes(
+            linkObj.getLinkBytes() , linkObj.getStart() , linkObj.getLength() );
+      } else {
+        String str = primitiveObject.getString();
+        if ( str == null ) {
+          return false;
+        }
+        HiveDecimal hiveDecimal = HiveDecimal.create( str );
+        if ( hiveDecimal == null ) {
+          return false;
+        }
+        scratchWritable.set( hiveDecimal );
+      }
+    } catch ( NumberFormatException | NullPointerException ex ) {
+      return false;
+    }
+    return scratchWritable.isSet();
+  }
+
+}
@@ -0,0 +1,96 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.common.type.HiveDecimal;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.DecimalColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
+
+import java.io.IOException;
+
+public class DecimalColumnVectorAssignor implements IColumnVectorAssignor {
+
+  private final PrimitiveObjectLoader primitiveObjectLoader = new PrimitiveObjectLoader();
+  private IColumn column;
+  private boolean isIntegralColumn;
+
+  @Override
+  public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
+    this.column = column;
+    ColumnType columnType = column.getColumnType();
+    isIntegralColumn = columnType == ColumnType.BYTE
+        || columnType == ColumnType.SHORT
+        || columnType == ColumnType.INTEGER
+        || columnType == ColumnType.LONG;
+  }
+
+  @Override
+  public void setColumnVector(
+      final ColumnVector vector ,
+      final IExpressionIndex indexList ,
+      final int start ,
+      final int length ) throws IOException {
+    DecimalColumnVector columnVector = (DecimalColumnVector)vector;
+    PrimitiveObject[] primitiveObjectArray =
+        primitiveObjectLoader.load( column , indexList , start , length );
+    if ( primitiveObjectLoader.isAllNull() ) {
+      ColumnVectorNullUtil.setAllNull( columnVector , length );
+      return;
+    }
+    for ( int i = 0 ; i < length ; i++ ) {
+      HiveDecimal hiveDecimal = toHiveDecimal( primitiveObjectArray[i] );
+      if ( hiveDecimal == null ) {
+        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+      } else {
+        // Values that do not fit the column's precision and scale are set to null here.
+        columnVector.set( i , hiveDecimal );
+      }
+    }
+    ColumnVectorNullUtil.updateNoNulls( columnVector , length );
+  }
+
+  /**
+   * DECIMAL is written as its string representation, while integral columns
+   * can be converted without parsing.
+   */
+  private HiveDecimal toHiveDecimal( final PrimitiveObject primitiveObject ) throws IOException {
+    if ( primitiveObject == null ) {
+      return null;
+    }
+    try {
+      if ( isIntegralColumn ) {
+        return HiveDecimal.create( primitiveObject.getLong() );
+      }
+      String str = primitiveObject.getString();
+      if ( str == null ) {
+        return null;
+      }
+      return HiveDecimal.create( str );
+    } catch ( NumberFormatException | NullPointerException ex ) {
+      return null;
+    }
+  }
+
+}
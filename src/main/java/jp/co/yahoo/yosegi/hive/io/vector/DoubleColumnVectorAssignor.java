@@ -30,8 +30,18 @@ import java.io.IOException;
 
 public class DoubleColumnVectorAssignor implements IColumnVectorAssignor {
 
+  /**
+   * Bits are compared so that NaN rows are treated as the same value.
+   */
+  private static final IRowValueComparator<DoubleColumnVector> VALUE_COMPARATOR =
+      ( columnVector , row1 , row2 ) ->
+          Double.doubleToLongBits( columnVector.vector[row1] )
+          == Double.doubleToLongBits( columnVector.vector[row2] );
+
   private final IDecimalPrimitiveSetter setter;
+  private final PrimitiveObjectLoader primitiveObjectLoader = new PrimitiveObjectLoader();
   private IColumn column;
+  private boolean isDirectColumn;
 
   public DoubleColumnVectorAssignor( final IDecimalPrimitiveSetter setter ) {
     this.setter = setter;
@@ -40,6 +50,7 @@ public class DoubleColumnVectorAssignor implements IColumnVectorAssignor {
   @Override
   public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
     this.column = column;
+    isDirectColumn = setter.isDirectColumnType( column.getColumnType() );
   }
 
   @Override
@@ -50,14 +61,49 @@ public class DoubleColumnVectorAssignor implements IColumnVectorAssignor {
       final int length ) throws IOException {
     DoubleColumnVector columnVector = (DoubleColumnVector)vector;
     PrimitiveObject[] primitiveObjectArray =
-        column.getPrimitiveObjectArray( indexList , start , length );
+        primitiveObjectLoader.load( column , indexList , start , length );
+    if ( primitiveObjectLoader.isAllNull() ) {
+      ColumnVectorNullUtil.setAllNull( columnVector , length );
+      return;
+    }
+    if ( isDirectColumn ) {
+      setDirect( primitiveObjectArray , columnVector , length );
+    } else {
+      for ( int i = 0 ; i < length ; i++ ) {
+        if ( primitiveObjectArray[i] == null ) {
+          VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+        } else {
+          setter.set( primitiveObjectArray , columnVector , i );
+        }
+      }
+      ColumnVectorNullUtil.updateNoNulls( columnVector , length );
+    }
+    ColumnVectorNullUtil.setRepeating( columnVector , length , VALUE_COMPARATOR );
+  }
+
+  /**
+   * Copy the values of a numeric column without going through the setter.
+   * Also sets noNulls so that Hive can take its fast paths.
+   */
+  private void setDirect(
+      final PrimitiveObject[] primitiveObjectArray ,
+      final DoubleColumnVector columnVector ,
+      final int length ) throws IOException {
+    double[] doubleVector = columnVector.vector;
+    boolean[] isNull = columnVector.isNull;
+    int nullCount = 0;
     for ( int i = 0 ; i < length ; i++ ) {
-      if ( primitiveObjectArray[i] == null ) {
-        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+      PrimitiveObject primitiveObject = primitiveObjectArray[i];
+      if ( primitiveObject == null ) {
+        doubleVector[i] = DoubleColumnVector.NULL_VALUE;
+        isNull[i] = true;
+        nullCount++;
       } else {
-        setter.set( primitiveObjectArray , columnVector , i );
+        doubleVector[i] = primitiveObject.getDouble();
+        isNull[i] = false;
       }
     }
+    columnVector.noNulls = nullCount == 0;
   }
 
 }
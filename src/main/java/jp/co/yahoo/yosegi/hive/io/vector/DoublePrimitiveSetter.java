@@ -19,6 +19,7 @@
 package jp.co.yahoo.yosegi.hive.io.vector;
 
 import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
 
 import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
@@ -42,6 +43,20 @@ public class DoublePrimitiveSetter implements IDecimalPrimitiveSetter {
     }
   }
 
+  @Override
+  public boolean isDirectColumnType( final ColumnType columnType ) {
+    switch ( columnType ) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case FLOAT:
+      case DOUBLE:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   public static DoublePrimitiveSetter getInstance() {
     return SETTER;
   }
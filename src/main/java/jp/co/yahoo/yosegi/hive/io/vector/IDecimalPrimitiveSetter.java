@@ -19,6 +19,7 @@
 package jp.co.yahoo.yosegi.hive.io.vector;
 
 import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
 
 import org.apache.hadoop.hive.ql.exec.vector.DoubleColumnVector;
 
@@ -31,4 +32,10 @@ public interface IDecimalPrimitiveSetter {
       final DoubleColumnVector columnVector ,
       final int index ) throws IOException;
 
+  /**
+   * Returns true if every value of the column type is exactly representable in this setter's
+   * Hive type, so that PrimitiveObject#getDouble() can be copied as is.
+   */
+  boolean isDirectColumnType( final ColumnType columnType );
+
 }
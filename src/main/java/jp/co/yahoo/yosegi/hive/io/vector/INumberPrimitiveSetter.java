@@ -19,6 +19,7 @@
 package jp.co.yahoo.yosegi.hive.io.vector;
 
 import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
 
 import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
 
@@ -31,4 +32,10 @@ public interface INumberPrimitiveSetter {
       final LongColumnVector columnVector ,
       final int index ) throws IOException;
 
+  /**
+   * Returns true if every value of the column type fits in this setter's Hive type,
+   * so that PrimitiveObject#getLong() can be copied without range checks.
+   */
+  boolean isDirectColumnType( final ColumnType columnType );
+
 }
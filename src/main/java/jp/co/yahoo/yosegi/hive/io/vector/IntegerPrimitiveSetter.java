@@ -19,6 +19,7 @@
 package jp.co.yahoo.yosegi.hive.io.vector;
 
 import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
 
 import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
@@ -42,6 +43,18 @@ public class IntegerPrimitiveSetter implements INumberPrimitiveSetter {
     }
   }
 
+  @Override
+  public boolean isDirectColumnType( final ColumnType columnType ) {
+    switch ( columnType ) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   public static IntegerPrimitiveSetter getInstance() {
     return SETTER;
   }
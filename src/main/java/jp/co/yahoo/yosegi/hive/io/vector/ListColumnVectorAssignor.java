@@ -0,0 +1,95 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import jp.co.yahoo.yosegi.spread.column.ArrayCell;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.ICell;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ListColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
+import org.apache.hadoop.hive.serde2.typeinfo.ListTypeInfo;
+
+import java.io.IOException;
+
+public class ListColumnVectorAssignor implements IColumnVectorAssignor {
+
+  private final IColumnVectorAssignor childAssignor;
+  private final ArrayExpressionIndex childIndexList = new ArrayExpressionIndex();
+  private IColumn column;
+  private boolean isArrayColumn;
+
+  public ListColumnVectorAssignor( final ListTypeInfo typeInfo ) {
+    childAssignor = ColumnVectorAssignorFactory.create( typeInfo.getListElementTypeInfo() );
+  }
+
+  @Override
+  public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
+    this.column = column;
+    isArrayColumn = column.getColumnType() == ColumnType.ARRAY;
+    if ( isArrayColumn ) {
+      IColumn childColumn = column.getColumn(0);
+      childAssignor.setColumn( childColumn.size() , childColumn );
+    }
+  }
+
+  /**
+   * The elements of each row are the range of ArrayCell in the child column,
+   * so the child vector is filled by the child assignor in one call.
+   */
+  @Override
+  public void setColumnVector(
+      final ColumnVector vector ,
+      final IExpressionIndex indexList ,
+      final int start ,
+      final int length ) throws IOException {
+    ListColumnVector columnVector = (ListColumnVector)vector;
+    childIndexList.clear();
+    int childCount = 0;
+    for ( int i = 0 ; i < length ; i++ ) {
+      columnVector.offsets[i] = childCount;
+      columnVector.lengths[i] = 0;
+      int targetIndex = start + i;
+      if ( ! isArrayColumn || indexList.size() <= targetIndex ) {
+        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+        continue;
+      }
+      ICell cell = column.get( indexList.get( targetIndex ) );
+      if ( cell.getType() != ColumnType.ARRAY ) {
+        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+        continue;
+      }
+      ArrayCell arrayCell = (ArrayCell)cell;
+      for ( int childIndex = arrayCell.getStart() ; childIndex < arrayCell.getEnd() ; childIndex++ ) {
+        childIndexList.add( childIndex );
+      }
+      columnVector.lengths[i] = arrayCell.getEnd() - arrayCell.getStart();
+      childCount += columnVector.lengths[i];
+    }
+    columnVector.childCount = childCount;
+    if ( 0 < childCount ) {
+      columnVector.child.ensureSize( childCount , false );
+      childAssignor.setColumnVector( columnVector.child , childIndexList , 0 , childCount );
+    }
+  }
+
+}
@@ -30,8 +30,13 @@ import java.io.IOException;
 
 public class LongColumnVectorAssignor implements IColumnVectorAssignor {
 
+  private static final IRowValueComparator<LongColumnVector> VALUE_COMPARATOR =
+      ( columnVector , row1 , row2 ) -> columnVector.vector[row1] == columnVector.vector[row2];
+
   private final INumberPrimitiveSetter setter;
+  private final PrimitiveObjectLoader primitiveObjectLoader = new PrimitiveObjectLoader();
   private IColumn column;
+  private boolean isDirectColumn;
 
   public LongColumnVectorAssignor( final INumberPrimitiveSetter setter ) {
     this.setter = setter;
@@ -40,6 +45,7 @@ public class LongColumnVectorAssignor implements IColumnVectorAssignor {
   @Override
   public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
     this.column = column;
+    isDirectColumn = setter.isDirectColumnType( column.getColumnType() );
   }
 
   @Override
@@ -50,14 +56,58 @@ public class LongColumnVectorAssignor implements IColumnVectorAssignor {
       final int length ) throws IOException {
     LongColumnVector columnVector = (LongColumnVector)vector;
     PrimitiveObject[] primitiveObjectArray =
-        column.getPrimitiveObjectArray( indexList , start , length );
+        primitiveObjectLoader.load( column , indexList , start , length );
+    if ( primitiveObjectLoader.isAllNull() ) {
+      ColumnVectorNullUtil.setAllNull( columnVector , length );
+      return;
+    }
+    if ( isDirectColumn ) {
+      setDirect( primitiveObjectArray , columnVector , length );
+    } else {
+      for ( int i = 0 ; i < length ; i++ ) {
+        if ( primitiveObjectArray[i] == null ) {
+          VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+        } else {
+          setter.set( primitiveObjectArray , columnVector , i );
+        }
+      }
+      ColumnVectorNullUtil.updateNoNulls( columnVector , length );
+    }
+    setRepeating( columnVector , length );
+  }
+
+  /**
+   * If all rows have the same value, or all rows are null, only the first slot is used.
+   */
+  static void setRepeating( final LongColumnVector columnVector , final int length ) {
+    ColumnVectorNullUtil.setRepeating( columnVector , length , VALUE_COMPARATOR );
+  }
+
+  /**
+   * Copy the values of an integral column without going through the setter.
+   * The column type guarantees that getLong() neither fails nor overflows the Hive type.
+   */
+  private void setDirect(
+      final PrimitiveObject[] primitiveObjectArray ,
+      final LongColumnVector columnVector ,
+      final int length ) throws IOException {
+    long[] longVector = columnVector.vector;
+    boolean[] isNull = columnVector.isNull;
+    boolean noNulls = true;
     for ( int i = 0 ; i < length ; i++ ) {
-      if ( primitiveObjectArray[i] == null ) {
-        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+      PrimitiveObject primitiveObject = primitiveObjectArray[i];
+      if ( primitiveObject == null ) {
+        longVector[i] = LongColumnVector.NULL_VALUE;
+        isNull[i] = true;
+        noNulls = false;
       } else {
-        setter.set( primitiveObjectArray , columnVector , i );
+        longVector[i] = primitiveObject.getLong();
+        isNull[i] = false;
       }
     }
+    if ( ! noNulls ) {
+      columnVector.noNulls = false;
+    }
   }
 
 }
@@ -19,6 +19,7 @@
 package jp.co.yahoo.yosegi.hive.io.vector;
 
 import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
 
 import org.apache.hadoop.hive.ql.exec.vector.LongColumnVector;
 import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
@@ -43,6 +44,19 @@ public final class LongPrimitiveSetter implements INumberPrimitiveSetter {
     }
   }
 
+  @Override
+  public boolean isDirectColumnType( final ColumnType columnType ) {
+    switch ( columnType ) {
+      case BYTE:
+      case SHORT:
+      case INTEGER:
+      case LONG:
+        return true;
+      default:
+        return false;
+    }
+  }
+
   public static LongPrimitiveSetter getInstance() {
     return SETTER;
   }
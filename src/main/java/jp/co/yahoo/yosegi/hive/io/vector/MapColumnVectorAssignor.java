@@ -0,0 +1,160 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.BytesColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.MapColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector.PrimitiveCategory;
+import org.apache.hadoop.hive.serde2.typeinfo.MapTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.PrimitiveTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+public class MapColumnVectorAssignor implements IColumnVectorAssignor {
+
+  private final TypeInfo valueTypeInfo;
+  private final List<IColumnVectorAssignor> valueAssignorList =
+      new ArrayList<IColumnVectorAssignor>();
+  private final List<ColumnVector> valueVectorList = new ArrayList<ColumnVector>();
+  private byte[][] keyArray = new byte[0][];
+  private IColumn column;
+  private boolean isMapColumn;
+
+  /**
+   * Initialize by setting map type information.
+   */
+  public MapColumnVectorAssignor( final MapTypeInfo typeInfo ) {
+    TypeInfo keyTypeInfo = typeInfo.getMapKeyTypeInfo();
+    if ( keyTypeInfo.getCategory() != ObjectInspector.Category.PRIMITIVE
+        || ( (PrimitiveTypeInfo)keyTypeInfo ).getPrimitiveCategory() != PrimitiveCategory.STRING ) {
+      throw new UnsupportedOperationException(
+          "Unsupport vectorize map key " + keyTypeInfo.getTypeName() );
+    }
+    valueTypeInfo = typeInfo.getMapValueTypeInfo();
+  }
+
+  /**
+   * Each key of the map is a child column of the spread,
+   * so an assignor and a work vector are prepared for each key.
+   */
+  @Override
+  public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
+    this.column = column;
+    isMapColumn = column.getColumnType() == ColumnType.SPREAD;
+    if ( ! isMapColumn ) {
+      keyArray = new byte[0][];
+      return;
+    }
+    int keySize = column.getColumnSize();
+    keyArray = new byte[keySize][];
+    while ( valueAssignorList.size() < keySize ) {
+      valueAssignorList.add( ColumnVectorAssignorFactory.create( valueTypeInfo ) );
+      valueVectorList.add( VectorizedBatchUtil.createColumnVector( valueTypeInfo ) );
+    }
+    for ( int i = 0 ; i < keySize ; i++ ) {
+      IColumn childColumn = column.getColumn(i);
+      keyArray[i] = childColumn.getColumnName().getBytes( StandardCharsets.UTF_8 );
+      valueAssignorList.get(i).setColumn( spreadSize , childColumn );
+    }
+  }
+
+  /**
+   * The values of each key are assigned to a work vector at once,
+   * and the non-null values are copied to the entries of each row.
+   * The rows where the map itself is null are marked on the map vector.
+   */
+  @Override
+  public void setColumnVector(
+      final ColumnVector vector ,
+      final IExpressionIndex indexList ,
+      final int start ,
+      final int length ) throws IOException {
+    MapColumnVector columnVector = (MapColumnVector)vector;
+    if ( ! isMapColumn ) {
+      ColumnVectorNullUtil.setAllNull( columnVector , length );
+      columnVector.childCount = 0;
+      for ( int row = 0 ; row < length ; row++ ) {
+        columnVector.offsets[row] = 0;
+        columnVector.lengths[row] = 0;
+      }
+      return;
+    }
+    int childCount = 0;
+    for ( int i = 0 ; i < keyArray.length ; i++ ) {
+      ColumnVector valueVector = valueVectorList.get(i);
+      valueVector.reset();
+      valueVector.ensureSize( length , false );
+      valueAssignorList.get(i).setColumnVector( valueVector , indexList , start , length );
+      for ( int row = 0 ; row < length ; row++ ) {
+        if ( ! isNull( valueVector , row ) ) {
+          childCount++;
+        }
+      }
+    }
+
+    columnVector.childCount = childCount;
+    columnVector.keys.ensureSize( childCount , false );
+    columnVector.values.ensureSize( childCount , false );
+    BytesColumnVector keyVector = (BytesColumnVector)columnVector.keys;
+    int offset = 0;
+    for ( int row = 0 ; row < length ; row++ ) {
+      columnVector.offsets[row] = offset;
+      int targetIndex = start + row;
+      if ( indexList.size() <= targetIndex
+          || column.get( indexList.get( targetIndex ) ).getType() != ColumnType.SPREAD ) {
+        VectorizedBatchUtil.setNullColIsNullValue( columnVector , row );
+        columnVector.lengths[row] = 0;
+        continue;
+      }
+      columnVector.isNull[row] = false;
+      for ( int i = 0 ; i < keyArray.length ; i++ ) {
+        ColumnVector valueVector = valueVectorList.get(i);
+        if ( isNull( valueVector , row ) ) {
+          continue;
+        }
+        keyVector.setRef( offset , keyArray[i] , 0 , keyArray[i].length );
+        columnVector.values.setElement(
+            offset , valueVector.isRepeating ? 0 : row , valueVector );
+        offset++;
+      }
+      columnVector.lengths[row] = offset - columnVector.offsets[row];
+    }
+    columnVector.childCount = offset;
+    ColumnVectorNullUtil.updateNoNulls( columnVector , length );
+  }
+
+  private static boolean isNull( final ColumnVector vector , final int row ) {
+    if ( vector.noNulls ) {
+      return false;
+    }
+    return vector.isNull[ vector.isRepeating ? 0 : row ];
+  }
+
+}
@@ -0,0 +1,74 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import java.io.IOException;
+
+/**
+ * Load the selected rows with IColumn.getPrimitiveObjectArray and count the null rows,
+ * so that the assignors can handle all-null slices at once.
+ * Nothing is reused between loads: each load returns the array created by the column.
+ * The bulk call is kept because Yosegi's encoded columns decode the rows in it
+ * without creating a cell for each row.
+ */
+public class PrimitiveObjectLoader {
+
+  private int length;
+  private int nullCount;
+
+  /**
+   * Returns the objects of the selected rows.
+   * Rows out of the index and rows that are not primitive are null.
+   */
+  public PrimitiveObject[] load(
+      final IColumn column ,
+      final IExpressionIndex indexList ,
+      final int start ,
+      final int length ) throws IOException {
+    PrimitiveObject[] primitiveObjectArray =
+        column.getPrimitiveObjectArray( indexList , start , length );
+    this.length = length;
+    nullCount = 0;
+    for ( int i = 0 ; i < length ; i++ ) {
+      if ( primitiveObjectArray[i] == null ) {
+        nullCount++;
+      }
+    }
+    return primitiveObjectArray;
+  }
+
+  /**
+   * Returns the number of null rows of the last load.
+   */
+  public int getNullCount() {
+    return nullCount;
+  }
+
+  /**
+   * Returns true if the last load has at least one row and all rows are null.
+   */
+  public boolean isAllNull() {
+    return 0 < length && nullCount == length;
+  }
+
+}
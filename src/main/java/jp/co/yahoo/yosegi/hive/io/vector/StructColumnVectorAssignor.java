@@ -0,0 +1,94 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.StructColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
+import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+
+import java.io.IOException;
+import java.util.List;
+
+public class StructColumnVectorAssignor implements IColumnVectorAssignor {
+
+  private final String[] fieldNames;
+  private final IColumnVectorAssignor[] childAssignors;
+  private IColumn column;
+  private boolean isStructColumn;
+
+  /**
+   * Create the assignors of all fields.
+   */
+  public StructColumnVectorAssignor( final StructTypeInfo typeInfo ) {
+    List<String> fieldNameList = typeInfo.getAllStructFieldNames();
+    List<TypeInfo> fieldTypeList = typeInfo.getAllStructFieldTypeInfos();
+    fieldNames = new String[fieldNameList.size()];
+    childAssignors = new IColumnVectorAssignor[fieldNameList.size()];
+    for ( int i = 0 ; i < fieldNames.length ; i++ ) {
+      fieldNames[i] = fieldNameList.get(i);
+      childAssignors[i] = ColumnVectorAssignorFactory.create( fieldTypeList.get(i) );
+    }
+  }
+
+  @Override
+  public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
+    this.column = column;
+    isStructColumn = column.getColumnType() == ColumnType.SPREAD;
+    for ( int i = 0 ; i < fieldNames.length ; i++ ) {
+      childAssignors[i].setColumn( spreadSize , column.getColumn( fieldNames[i] ) );
+    }
+  }
+
+  /**
+   * The fields of a struct are stored at the same row numbers as the struct itself.
+   * The rows where the struct itself is null are marked on the struct vector.
+   */
+  @Override
+  public void setColumnVector(
+      final ColumnVector vector ,
+      final IExpressionIndex indexList ,
+      final int start ,
+      final int length ) throws IOException {
+    StructColumnVector columnVector = (StructColumnVector)vector;
+    if ( ! isStructColumn ) {
+      ColumnVectorNullUtil.setAllNull( columnVector , length );
+    } else {
+      for ( int i = 0 ; i < length ; i++ ) {
+        int targetIndex = start + i;
+        if ( indexList.size() <= targetIndex
+            || column.get( indexList.get( targetIndex ) ).getType() != ColumnType.SPREAD ) {
+          VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+        } else {
+          columnVector.isNull[i] = false;
+        }
+      }
+      ColumnVectorNullUtil.updateNoNulls( columnVector , length );
+    }
+    for ( int i = 0 ; i < fieldNames.length ; i++ ) {
+      childAssignors[i].setColumnVector( columnVector.fields[i] , indexList , start , length );
+    }
+  }
+
+}
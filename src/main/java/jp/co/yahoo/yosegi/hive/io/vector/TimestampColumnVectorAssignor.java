@@ -0,0 +1,82 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.ColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.TimestampColumnVector;
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedBatchUtil;
+
+import java.io.IOException;
+
+public class TimestampColumnVectorAssignor implements IColumnVectorAssignor {
+
+  private static final long MILLIS_PER_SECOND = 1000L;
+  private static final int NANOS_PER_MILLI = 1000000;
+  private static final IRowValueComparator<TimestampColumnVector> VALUE_COMPARATOR =
+      ( columnVector , row1 , row2 ) ->
+          columnVector.time[row1] == columnVector.time[row2]
+          && columnVector.nanos[row1] == columnVector.nanos[row2];
+
+  private final PrimitiveObjectLoader primitiveObjectLoader = new PrimitiveObjectLoader();
+  private IColumn column;
+
+  @Override
+  public void setColumn( final int spreadSize , final IColumn column ) throws IOException {
+    this.column = column;
+  }
+
+  /**
+   * TIMESTAMP is written as epoch milliseconds by HiveTimestampPrimitiveConverter,
+   * so time and nanos are set directly without creating Timestamp objects.
+   */
+  @Override
+  public void setColumnVector(
+      final ColumnVector vector ,
+      final IExpressionIndex indexList ,
+      final int start ,
+      final int length ) throws IOException {
+    TimestampColumnVector columnVector = (TimestampColumnVector)vector;
+    PrimitiveObject[] primitiveObjectArray =
+        primitiveObjectLoader.load( column , indexList , start , length );
+    if ( primitiveObjectLoader.isAllNull() ) {
+      ColumnVectorNullUtil.setAllNull( columnVector , length );
+      return;
+    }
+    for ( int i = 0 ; i < length ; i++ ) {
+      if ( primitiveObjectArray[i] == null ) {
+        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+        continue;
+      }
+      try {
+        long millis = primitiveObjectArray[i].getLong();
+        columnVector.time[i] = millis;
+        columnVector.nanos[i] = (int)Math.floorMod( millis , MILLIS_PER_SECOND ) * NANOS_PER_MILLI;
+      } catch ( NumberFormatException | NullPointerException ex ) {
+        VectorizedBatchUtil.setNullColIsNullValue( columnVector , i );
+      }
+    }
+    ColumnVectorNullUtil.updateNoNulls( columnVector , length );
+    ColumnVectorNullUtil.setRepeating( columnVector , length , VALUE_COMPARATOR );
+  }
+
+}
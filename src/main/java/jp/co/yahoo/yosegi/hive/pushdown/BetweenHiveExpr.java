@@ -140,6 +140,17 @@ public class BetweenHiveExpr implements IHiveExprNode {
               ( (WritableConstantDoubleObjectInspector)maxPrimitiveObjectInspector )
               .getWritableConstantValue().get() ) ,
             targetColumn );
+      case DATE:
+      case TIMESTAMP:
+        LongObj minEpochMilliObj =
+            DateTimeConstantUtil.getEpochMilliObj( minPrimitiveObjectInspector );
+        LongObj maxEpochMilliObj =
+            DateTimeConstantUtil.getEpochMilliObj( maxPrimitiveObjectInspector );
+        if ( minEpochMilliObj == null || maxEpochMilliObj == null ) {
+          return null;
+        }
+        return getNumberRangeExecuter(
+            invert , minEpochMilliObj , maxEpochMilliObj , targetColumn );
       default:
         return null;
     }
@@ -148,8 +148,13 @@ public class CompareHiveExpr implements IHiveExprNode {
         filter = new NumberFilter( numberCompareType , new DoubleObj( doubleObj ) );
         break;
       case DATE:
-      case DECIMAL:
       case TIMESTAMP:
+        LongObj epochMilliObj = DateTimeConstantUtil.getEpochMilliObj( primitiveObjectInspector );
+        if ( epochMilliObj != null ) {
+          filter = new NumberFilter( numberCompareType , epochMilliObj );
+        }
+        break;
+      case DECIMAL:
         filter = null;
         break;
       default:
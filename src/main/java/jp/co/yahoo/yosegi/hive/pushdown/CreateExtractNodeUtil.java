@@ -28,8 +28,11 @@ import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDF;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFIndex;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector.Category;
 import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantStringObjectInspector;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfo;
+import org.apache.hadoop.io.Text;
 
 import java.util.List;
 
@@ -94,6 +97,12 @@ public final class CreateExtractNodeUtil {
       return null;
     }
 
+    // Only the keys of a map are child columns. The elements of an array are not.
+    TypeInfo columnTypeInfo = columnDesc.getTypeInfo();
+    if ( columnTypeInfo != null && columnTypeInfo.getCategory() == Category.LIST ) {
+      return null;
+    }
+
     ObjectInspector objectInspector = constantDesc.getWritableObjectInspector();
     if ( objectInspector.getCategory() != ObjectInspector.Category.PRIMITIVE ) {
       return null;
@@ -104,25 +113,34 @@ public final class CreateExtractNodeUtil {
         != PrimitiveObjectInspector.PrimitiveCategory.STRING ) {
       return null;
     }
-    IExtractNode childExtraNode = new StringExtractNode(
-        ( (WritableConstantStringObjectInspector)primitiveObjectInspector )
-        .getWritableConstantValue().toString() );
+    Text key = ( (WritableConstantStringObjectInspector)primitiveObjectInspector )
+        .getWritableConstantValue();
+    if ( key == null ) {
+      return null;
+    }
 
     IExtractNode parentExtraNode = getExtractNode( columnDesc );
-
-    parentExtraNode.pushChild( childExtraNode );
+    if ( parentExtraNode == null ) {
+      return null;
+    }
+    parentExtraNode.pushChild( new StringExtractNode( key.toString() ) );
 
     return parentExtraNode;
   }
 
   /**
    * Create column extraction condition from ExprNodeFieldDesc.
+   * A field of the structs in an array is not a child column, so it is not supported.
    */
   public static IExtractNode getExtractNodeFromField( final ExprNodeFieldDesc target ) {
+    if ( Boolean.TRUE.equals( target.getIsList() ) ) {
+      return null;
+    }
     IExtractNode parentExtraNode = getExtractNode( target.getDesc() );
-    IExtractNode childExtraNode = new StringExtractNode( target.getFieldName() );
-    
-    parentExtraNode.pushChild( childExtraNode );
+    if ( parentExtraNode == null ) {
+      return null;
+    }
+    parentExtraNode.pushChild( new StringExtractNode( target.getFieldName() ) );
     return parentExtraNode;
   }
 
@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.pushdown;
+
+import jp.co.yahoo.yosegi.message.objects.LongObj;
+import org.apache.hadoop.hive.common.type.Date;
+import org.apache.hadoop.hive.common.type.Timestamp;
+import org.apache.hadoop.hive.serde2.io.DateWritableV2;
+import org.apache.hadoop.hive.serde2.io.TimestampWritableV2;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantDateObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantTimestampObjectInspector;
+
+public final class DateTimeConstantUtil {
+
+  private static final int NANOS_PER_MILLI = 1000000;
+
+  private DateTimeConstantUtil() {}
+
+  /**
+   * Convert a DATE or TIMESTAMP constant to the value written to Yosegi.
+   * HiveDatePrimitiveConverter and HiveTimestampPrimitiveConverter write epoch milliseconds.
+   * Returns null if the constant is null, or if it has a part finer than milliseconds,
+   * since the comparison with the written value would not match Hive's comparison.
+   */
+  public static LongObj getEpochMilliObj(
+      final PrimitiveObjectInspector primitiveObjectInspector ) {
+    switch ( primitiveObjectInspector.getPrimitiveCategory() ) {
+      case DATE:
+        DateWritableV2 dateWritable =
+            ( (WritableConstantDateObjectInspector)primitiveObjectInspector )
+            .getWritableConstantValue();
+        if ( dateWritable == null ) {
+          return null;
+        }
+        Date date = dateWritable.get();
+        return new LongObj( date.toEpochMilli() );
+      case TIMESTAMP:
+        TimestampWritableV2 timestampWritable =
+            ( (WritableConstantTimestampObjectInspector)primitiveObjectInspector )
+            .getWritableConstantValue();
+        if ( timestampWritable == null ) {
+          return null;
+        }
+        Timestamp timestamp = timestampWritable.getTimestamp();
+        if ( timestamp.getNanos() % NANOS_PER_MILLI != 0 ) {
+          return null;
+        }
+        return new LongObj( timestamp.toEpochMilli() );
+      default:
+        return null;
+    }
+  }
+
+}
@@ -51,8 +51,9 @@ import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantS
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableVoidObjectInspector;
 
 import java.util.List;
+import java.util.Set;
 
-public class EqualsHiveExpr implements IHiveExprNode {
+public class EqualsHiveExpr implements IStringMatchHiveExpr {
 
   private final List<ExprNodeDesc> nodeDescList;
 
@@ -118,8 +119,13 @@ public class EqualsHiveExpr implements IHiveExprNode {
         filter = new NumberFilter( NumberFilterType.EQUAL , new DoubleObj( doubleObj ) );
         break;
       case DATE:
-      case DECIMAL:
       case TIMESTAMP:
+        LongObj epochMilliObj = DateTimeConstantUtil.getEpochMilliObj( primitiveObjectInspector );
+        if ( epochMilliObj != null ) {
+          filter = new NumberFilter( NumberFilterType.EQUAL , epochMilliObj );
+        }
+        break;
+      case DECIMAL:
         filter = null;
         break;
       case VOID:
@@ -141,6 +147,31 @@ public class EqualsHiveExpr implements IHiveExprNode {
     return new ExecuterNode( targetColumn , filter );
   }
 
+  @Override
+  public ExprNodeDesc getStringMatchColumn() {
+    if ( nodeDescList.size() != 2 ) {
+      return null;
+    }
+    ExprNodeDesc exprNode1 = nodeDescList.get( 0 );
+    ExprNodeDesc exprNode2 = nodeDescList.get( 1 );
+    if ( InHiveExpr.isStringColumn( exprNode1 ) && InHiveExpr.isStringConstant( exprNode2 ) ) {
+      return exprNode1;
+    } else if ( InHiveExpr.isStringConstant( exprNode1 )
+        && InHiveExpr.isStringColumn( exprNode2 ) ) {
+      return exprNode2;
+    }
+    return null;
+  }
+
+  @Override
+  public void addStringMatch( final Set<String> matchSet ) {
+    for ( ExprNodeDesc nodeDesc : nodeDescList ) {
+      if ( nodeDesc instanceof ExprNodeConstantDesc ) {
+        InHiveExpr.addStringConstant( nodeDesc , matchSet );
+      }
+    }
+  }
+
   @Override
   public void addChildNode( final ExprNodeGenericFuncDesc exprNodeDesc ) {
     throw new UnsupportedOperationException( "IHiveExprNode node can not have child node." );
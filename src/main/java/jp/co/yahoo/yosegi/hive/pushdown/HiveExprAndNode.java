@@ -68,6 +68,10 @@ public class HiveExprAndNode implements IHiveExprNode {
     }
   }
 
+  List<IHiveExprNode> getChildNodeList() {
+    return childNodeList;
+  }
+
   @Override
   public IExpressionNode getPushDownFilterNode() {
     IExpressionNode result = new AndExpressionNode();
@@ -37,6 +37,7 @@ import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotEqual;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotNull;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNull;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFRegExp;
 
 import java.util.List;
 
@@ -55,6 +56,10 @@ public final class HiveExprFactory {
       return getFromUdfClassName( ( (GenericUDFBridge)udf ).getUdfClass() , childNodeDesc );
     }
 
+    if ( StringLengthHiveExpr.isStringLengthCompare( childNodeDesc ) ) {
+      return new StringLengthHiveExpr( udf , childNodeDesc );
+    }
+
     if ( udf instanceof GenericUDFOPEqual ) {
       return new EqualsHiveExpr( childNodeDesc );
     } else if ( udf instanceof GenericUDFOPNotEqual ) {
@@ -65,6 +70,8 @@ public final class HiveExprFactory {
       return new InHiveExpr( childNodeDesc );
     } else if ( udf instanceof GenericUDFBetween ) {
       return new BetweenHiveExpr( childNodeDesc );
+    } else if ( udf instanceof GenericUDFRegExp ) {
+      return new RlikeHiveExpr( childNodeDesc );
     } else if ( udf instanceof GenericUDFOPNull ) {
       return new NullHiveExpr( childNodeDesc );
     } else if ( udf instanceof GenericUDFIndex ) {
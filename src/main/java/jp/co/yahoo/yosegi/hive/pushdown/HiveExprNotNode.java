@@ -18,8 +18,10 @@
 
 package jp.co.yahoo.yosegi.hive.pushdown;
 
+import jp.co.yahoo.yosegi.spread.expression.AndExpressionNode;
 import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
 import jp.co.yahoo.yosegi.spread.expression.NotExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.OrExpressionNode;
 import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
 import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
 import org.apache.hadoop.hive.ql.plan.ExprNodeFieldDesc;
@@ -68,16 +70,67 @@ public class HiveExprNotNode implements IHiveExprNode {
     }
   }
 
+  List<IHiveExprNode> getChildNodeList() {
+    return childNodeList;
+  }
+
+  /**
+   * The negation is moved down to the leaves so that AND and OR can still drop
+   * the children that can not be pushed down.
+   */
   @Override
   public IExpressionNode getPushDownFilterNode() {
-    IExpressionNode result = new NotExpressionNode();
-    for ( IHiveExprNode childHiveExprNode : childNodeList ) {
-      IExpressionNode childNode = childHiveExprNode.getPushDownFilterNode();
-      if ( childNode != null ) {
+    if ( childNodeList.size() != 1 ) {
+      return null;
+    }
+    return getNegatedFilterNode( childNodeList.get( 0 ) );
+  }
+
+  /**
+   * Create a filter condition that is a superset of NOT of the node.
+   * Returns null if the negation can not be pushed down.
+   */
+  public static IExpressionNode getNegatedFilterNode( final IHiveExprNode hiveExprNode ) {
+    if ( hiveExprNode instanceof HiveExprAndNode ) {
+      // NOT( a AND b ) is NOT a OR NOT b, so every child has to be negated.
+      IExpressionNode result = new OrExpressionNode();
+      for ( IHiveExprNode childHiveExprNode
+          : ( (HiveExprAndNode)hiveExprNode ).getChildNodeList() ) {
+        IExpressionNode childNode = getNegatedFilterNode( childHiveExprNode );
+        if ( childNode == null ) {
+          return null;
+        }
         result.addChildNode( childNode );
       }
+      return result;
+    } else if ( hiveExprNode instanceof HiveExprOrNode ) {
+      // NOT( a OR b ) is NOT a AND NOT b, so the children that can not be negated are dropped.
+      IExpressionNode result = new AndExpressionNode();
+      for ( IHiveExprNode childHiveExprNode
+          : ( (HiveExprOrNode)hiveExprNode ).getChildNodeList() ) {
+        IExpressionNode childNode = getNegatedFilterNode( childHiveExprNode );
+        if ( childNode != null ) {
+          result.addChildNode( childNode );
+        }
+      }
+      return result;
+    } else if ( hiveExprNode instanceof HiveExprNotNode ) {
+      // NOT( NOT a ) is a.
+      List<IHiveExprNode> notChildNodeList =
+          ( (HiveExprNotNode)hiveExprNode ).getChildNodeList();
+      if ( notChildNodeList.size() != 1 ) {
+        return null;
+      }
+      return notChildNodeList.get( 0 ).getPushDownFilterNode();
+    }
+    if ( hiveExprNode instanceof InHiveExpr && ! ( (InHiveExpr)hiveExprNode ).isExactFilter() ) {
+      return null;
+    }
+    IExpressionNode node = hiveExprNode.getPushDownFilterNode();
+    if ( node == null ) {
+      return null;
     }
-    return result;
+    return new NotExpressionNode( node );
   }
 
 }
@@ -18,7 +18,10 @@
 
 package jp.co.yahoo.yosegi.hive.pushdown;
 
+import jp.co.yahoo.yosegi.spread.column.filter.StringDictionaryFilter;
+import jp.co.yahoo.yosegi.spread.expression.ExecuterNode;
 import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.IExtractNode;
 import jp.co.yahoo.yosegi.spread.expression.OrExpressionNode;
 import org.apache.hadoop.hive.ql.plan.ExprNodeColumnDesc;
 import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
@@ -30,7 +33,11 @@ import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNot;
 import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPOr;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 public class HiveExprOrNode implements IHiveExprNode {
 
@@ -68,10 +75,35 @@ public class HiveExprOrNode implements IHiveExprNode {
     }
   }
 
+  List<IHiveExprNode> getChildNodeList() {
+    return childNodeList;
+  }
+
+  /**
+   * If any child can not be pushed down, the rows of that child are unknown,
+   * so an empty condition that does not filter is returned.
+   * Conditions under NOT are converted by HiveExprNotNode instead.
+   * String matches of the same column are merged into one dictionary filter,
+   * so that the column is filtered once instead of once per value.
+   */
   @Override
   public IExpressionNode getPushDownFilterNode() {
     IExpressionNode result = new OrExpressionNode();
+    Map<String,List<IStringMatchHiveExpr>> stringMatchMap =
+        new LinkedHashMap<String,List<IStringMatchHiveExpr>>();
     for ( IHiveExprNode childHiveExprNode : childNodeList ) {
+      if ( childHiveExprNode instanceof IStringMatchHiveExpr ) {
+        ExprNodeDesc columnDesc =
+            ( (IStringMatchHiveExpr)childHiveExprNode ).getStringMatchColumn();
+        if ( columnDesc != null ) {
+          String key = columnDesc.getExprString();
+          if ( ! stringMatchMap.containsKey( key ) ) {
+            stringMatchMap.put( key , new ArrayList<IStringMatchHiveExpr>() );
+          }
+          stringMatchMap.get( key ).add( (IStringMatchHiveExpr)childHiveExprNode );
+          continue;
+        }
+      }
       IExpressionNode childNode = childHiveExprNode.getPushDownFilterNode();
       if ( childNode == null ) {
         return new OrExpressionNode();
@@ -79,7 +111,32 @@ public class HiveExprOrNode implements IHiveExprNode {
       result.addChildNode( childNode );
     }
 
+    for ( List<IStringMatchHiveExpr> stringMatchList : stringMatchMap.values() ) {
+      IExpressionNode childNode = getStringMatchFilterNode( stringMatchList );
+      if ( childNode == null ) {
+        return new OrExpressionNode();
+      }
+      result.addChildNode( childNode );
+    }
+
     return result;
   }
 
+  private static IExpressionNode getStringMatchFilterNode(
+      final List<IStringMatchHiveExpr> stringMatchList ) {
+    if ( stringMatchList.size() == 1 ) {
+      return stringMatchList.get( 0 ).getPushDownFilterNode();
+    }
+    IExtractNode extractNode = CreateExtractNodeUtil.getExtractNode(
+        stringMatchList.get( 0 ).getStringMatchColumn() );
+    if ( extractNode == null ) {
+      return null;
+    }
+    Set<String> matchSet = new HashSet<String>();
+    for ( IStringMatchHiveExpr stringMatch : stringMatchList ) {
+      stringMatch.addStringMatch( matchSet );
+    }
+    return new ExecuterNode( extractNode , new StringDictionaryFilter( matchSet ) );
+  }
+
 }
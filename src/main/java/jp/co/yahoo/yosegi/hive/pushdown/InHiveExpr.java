@@ -18,16 +18,30 @@
 
 package jp.co.yahoo.yosegi.hive.pushdown;
 
+import jp.co.yahoo.yosegi.message.objects.ByteObj;
+import jp.co.yahoo.yosegi.message.objects.DoubleObj;
+import jp.co.yahoo.yosegi.message.objects.FloatObj;
+import jp.co.yahoo.yosegi.message.objects.IntegerObj;
+import jp.co.yahoo.yosegi.message.objects.LongObj;
+import jp.co.yahoo.yosegi.message.objects.PrimitiveObject;
+import jp.co.yahoo.yosegi.message.objects.ShortObj;
 import jp.co.yahoo.yosegi.spread.column.filter.IFilter;
+import jp.co.yahoo.yosegi.spread.column.filter.NumberFilter;
+import jp.co.yahoo.yosegi.spread.column.filter.NumberFilterType;
+import jp.co.yahoo.yosegi.spread.column.filter.NumberRangeFilter;
 import jp.co.yahoo.yosegi.spread.column.filter.StringDictionaryFilter;
+import jp.co.yahoo.yosegi.spread.expression.AndExpressionNode;
 import jp.co.yahoo.yosegi.spread.expression.ExecuterNode;
 import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
 import jp.co.yahoo.yosegi.spread.expression.IExtractNode;
+import jp.co.yahoo.yosegi.spread.expression.OrExpressionNode;
 import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
 import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
 import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.serde2.objectinspector.ConstantObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorUtils;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantBooleanObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantByteObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantDoubleObjectInspector;
@@ -37,15 +51,28 @@ import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantL
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantShortObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableConstantStringObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.WritableVoidObjectInspector;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
-public class InHiveExpr implements IHiveExprNode {
+public class InHiveExpr implements IStringMatchHiveExpr {
+
+  /**
+   * Each filter of a numeric IN list is evaluated on every row of a spread,
+   * so a longer list is pushed down only as its range.
+   */
+  private static final int MAX_EXACT_NUMBER_FILTER_SIZE = 32;
 
   private final List<ExprNodeDesc> nodeDescList;
 
+  private boolean isNumberPlanned;
+  private PrimitiveObjectInspector.PrimitiveCategory numberCategory;
+  private long[] numberValues;
+  private boolean isExactNumberFilter = true;
+
   public InHiveExpr( final List<ExprNodeDesc> nodeDescList ) {
     this.nodeDescList = nodeDescList;
   }
@@ -66,6 +93,36 @@ public class InHiveExpr implements IHiveExprNode {
     return (PrimitiveObjectInspector)objectInspector;
   }
 
+  /**
+   * Returns true if the node is a constant of string, including null.
+   */
+  public static boolean isStringConstant( final ExprNodeDesc exprNode ) {
+    PrimitiveObjectInspector primitiveObjectInspector = getPrimitiveObjectInspector( exprNode );
+    return primitiveObjectInspector != null
+        && primitiveObjectInspector.getPrimitiveCategory()
+        == PrimitiveObjectInspector.PrimitiveCategory.STRING;
+  }
+
+  /**
+   * Returns true if the node is a string column or a string field.
+   */
+  public static boolean isStringColumn( final ExprNodeDesc exprNode ) {
+    return ! ( exprNode instanceof ExprNodeConstantDesc )
+        && TypeInfoFactory.stringTypeInfo.equals( exprNode.getTypeInfo() );
+  }
+
+  /**
+   * Add the string constant to the set. Null is skipped because it never matches.
+   */
+  public static void addStringConstant( final ExprNodeDesc exprNode , final Set<String> matchSet ) {
+    Object constValue =
+        ( (WritableConstantStringObjectInspector)getPrimitiveObjectInspector( exprNode ) )
+        .getWritableConstantValue();
+    if ( constValue != null ) {
+      matchSet.add( constValue.toString() );
+    }
+  }
+
   /**
    * Convert to Yosegi's filter condition.
    */
@@ -90,9 +147,7 @@ public class InHiveExpr implements IHiveExprNode {
               != rootPrimitiveObjectInspector.getPrimitiveCategory() ) {
             return null;
           }
-          stringDic.add(
-              ( (WritableConstantStringObjectInspector)primitiveObjectInspector )
-              .getWritableConstantValue().toString() );
+          addStringConstant( nodeDescList.get( i ) , stringDic );
         }
         return new StringDictionaryFilter( stringDic );
       case BYTE:
@@ -106,6 +161,268 @@ public class InHiveExpr implements IHiveExprNode {
     }
   }
 
+  /**
+   * Convert a numeric IN list to Yosegi's filter condition.
+   * The values are deduplicated, and consecutive integers are merged into a range.
+   * The range from the minimum to the maximum is checked first,
+   * so that blocks and spreads out of the range are skipped by their min/max.
+   * If the list needs more than MAX_EXACT_NUMBER_FILTER_SIZE filters,
+   * only the range is pushed down and Hive checks the values.
+   */
+  public static IExpressionNode getNumberInExecuter(
+      final List<ExprNodeDesc> nodeDescList , final int start , final ExprNodeDesc columnDesc ) {
+    PrimitiveObjectInspector.PrimitiveCategory primitiveCategory =
+        getNumberCategory( nodeDescList , start );
+    if ( primitiveCategory == null ) {
+      return null;
+    }
+    long[] values = getNumberValues( nodeDescList , start , primitiveCategory );
+    if ( values == null ) {
+      return null;
+    }
+    return createNumberInExecuter( columnDesc , primitiveCategory , values ,
+        isExactNumberFilter( values , isIntegralCategory( primitiveCategory ) ) );
+  }
+
+  private static IExpressionNode createNumberInExecuter(
+      final ExprNodeDesc columnDesc ,
+      final PrimitiveObjectInspector.PrimitiveCategory primitiveCategory ,
+      final long[] values ,
+      final boolean isExact ) {
+    boolean isIntegral = isIntegralCategory( primitiveCategory );
+    double[] doubleValues = null;
+    PrimitiveObject minObj;
+    PrimitiveObject maxObj;
+    if ( isIntegral ) {
+      minObj = toNumberObj( primitiveCategory , values[0] , 0 );
+      maxObj = toNumberObj( primitiveCategory , values[values.length - 1] , 0 );
+    } else {
+      doubleValues = new double[values.length];
+      for ( int i = 0 ; i < values.length ; i++ ) {
+        doubleValues[i] = Double.longBitsToDouble( values[i] );
+      }
+      Arrays.sort( doubleValues );
+      minObj = toNumberObj( primitiveCategory , 0 , doubleValues[0] );
+      maxObj = toNumberObj( primitiveCategory , 0 , doubleValues[doubleValues.length - 1] );
+    }
+    IExpressionNode rangeNode = new ExecuterNode(
+        CreateExtractNodeUtil.getExtractNode( columnDesc ) ,
+        new NumberRangeFilter( false , minObj , true , maxObj , true ) );
+    if ( ! isExact ) {
+      return rangeNode;
+    }
+
+    IExpressionNode orNode = new OrExpressionNode();
+    if ( isIntegral ) {
+      int runStart = 0;
+      for ( int i = 1 ; i <= values.length ; i++ ) {
+        if ( i == values.length || values[i] != values[i - 1] + 1 ) {
+          orNode.addChildNode( getEqualsOrRangeExecuter(
+              columnDesc ,
+              toNumberObj( primitiveCategory , values[runStart] , 0 ) ,
+              toNumberObj( primitiveCategory , values[i - 1] , 0 ) ,
+              runStart == i - 1 ) );
+          runStart = i;
+        }
+      }
+    } else {
+      for ( double value : doubleValues ) {
+        PrimitiveObject valueObj = toNumberObj( primitiveCategory , 0 , value );
+        orNode.addChildNode( getEqualsOrRangeExecuter( columnDesc , valueObj , valueObj , true ) );
+      }
+    }
+
+    IExpressionNode result = new AndExpressionNode();
+    result.addChildNode( rangeNode );
+    result.addChildNode( orNode );
+    return result;
+  }
+
+  /**
+   * Returns the category of a numeric IN list, or null if it is not numeric.
+   */
+  private static PrimitiveObjectInspector.PrimitiveCategory getNumberCategory(
+      final List<ExprNodeDesc> nodeDescList , final int start ) {
+    PrimitiveObjectInspector rootPrimitiveObjectInspector =
+        getPrimitiveObjectInspector( nodeDescList.get( start ) );
+    if ( rootPrimitiveObjectInspector == null ) {
+      return null;
+    }
+    PrimitiveObjectInspector.PrimitiveCategory primitiveCategory =
+        rootPrimitiveObjectInspector.getPrimitiveCategory();
+    switch ( primitiveCategory ) {
+      case BYTE:
+      case SHORT:
+      case INT:
+      case LONG:
+      case FLOAT:
+      case DOUBLE:
+        return primitiveCategory;
+      default:
+        return null;
+    }
+  }
+
+  private static boolean isIntegralCategory(
+      final PrimitiveObjectInspector.PrimitiveCategory primitiveCategory ) {
+    return primitiveCategory != PrimitiveObjectInspector.PrimitiveCategory.FLOAT
+        && primitiveCategory != PrimitiveObjectInspector.PrimitiveCategory.DOUBLE;
+  }
+
+  /**
+   * Returns the sorted distinct values of the list,
+   * or null if the list can not be pushed down.
+   * Floating point values are returned as their bits.
+   * A null constant never matches, so it is skipped.
+   */
+  private static long[] getNumberValues(
+      final List<ExprNodeDesc> nodeDescList ,
+      final int start ,
+      final PrimitiveObjectInspector.PrimitiveCategory primitiveCategory ) {
+    boolean isIntegral = isIntegralCategory( primitiveCategory );
+    long[] values = new long[nodeDescList.size() - start];
+    int size = 0;
+    for ( int i = start ; i < nodeDescList.size() ; i++ ) {
+      PrimitiveObjectInspector primitiveObjectInspector  =
+          getPrimitiveObjectInspector( nodeDescList.get( i ) );
+      if ( primitiveObjectInspector == null
+          || primitiveObjectInspector.getPrimitiveCategory() != primitiveCategory ) {
+        return null;
+      }
+      Object constant =
+          ( (ConstantObjectInspector)primitiveObjectInspector ).getWritableConstantValue();
+      if ( constant == null ) {
+        continue;
+      }
+      if ( isIntegral ) {
+        values[size++] =
+            PrimitiveObjectInspectorUtils.getLong( constant , primitiveObjectInspector );
+        continue;
+      }
+      double value = PrimitiveObjectInspectorUtils.getDouble( constant , primitiveObjectInspector );
+      if ( Double.isNaN( value ) ) {
+        return null;
+      }
+      // 0.0 and -0.0 are equal, but their bits are not.
+      values[size++] = Double.doubleToLongBits( value == 0.0d ? 0.0d : value );
+    }
+    if ( size == 0 ) {
+      return null;
+    }
+    Arrays.sort( values , 0 , size );
+    int distinctSize = 1;
+    for ( int i = 1 ; i < size ; i++ ) {
+      if ( values[i] != values[distinctSize - 1] ) {
+        values[distinctSize++] = values[i];
+      }
+    }
+    return Arrays.copyOf( values , distinctSize );
+  }
+
+  /**
+   * Returns true if the sorted values need at most MAX_EXACT_NUMBER_FILTER_SIZE
+   * EQUAL and range filters.
+   */
+  private static boolean isExactNumberFilter( final long[] values , final boolean isIntegral ) {
+    if ( ! isIntegral ) {
+      return values.length <= MAX_EXACT_NUMBER_FILTER_SIZE;
+    }
+    int size = 1;
+    for ( int i = 1 ; i < values.length ; i++ ) {
+      if ( values[i] != values[i - 1] + 1 ) {
+        size++;
+      }
+    }
+    return size <= MAX_EXACT_NUMBER_FILTER_SIZE;
+  }
+
+  private static PrimitiveObject toNumberObj(
+      final PrimitiveObjectInspector.PrimitiveCategory primitiveCategory ,
+      final long longValue ,
+      final double doubleValue ) {
+    switch ( primitiveCategory ) {
+      case BYTE:
+        return new ByteObj( (byte)longValue );
+      case SHORT:
+        return new ShortObj( (short)longValue );
+      case INT:
+        return new IntegerObj( (int)longValue );
+      case LONG:
+        return new LongObj( longValue );
+      case FLOAT:
+        return new FloatObj( (float)doubleValue );
+      case DOUBLE:
+      default:
+        return new DoubleObj( doubleValue );
+    }
+  }
+
+  private static IExpressionNode getEqualsOrRangeExecuter(
+      final ExprNodeDesc columnDesc ,
+      final PrimitiveObject minObj ,
+      final PrimitiveObject maxObj ,
+      final boolean isEquals ) {
+    IExtractNode extractNode = CreateExtractNodeUtil.getExtractNode( columnDesc );
+    if ( isEquals ) {
+      return new ExecuterNode( extractNode , new NumberFilter( NumberFilterType.EQUAL , minObj ) );
+    }
+    return new ExecuterNode(
+        extractNode , new NumberRangeFilter( false , minObj , true , maxObj , true ) );
+  }
+
+  @Override
+  public ExprNodeDesc getStringMatchColumn() {
+    if ( nodeDescList.size() < 2 || ! isStringColumn( nodeDescList.get( 0 ) ) ) {
+      return null;
+    }
+    for ( int i = 1 ; i < nodeDescList.size() ; i++ ) {
+      if ( ! isStringConstant( nodeDescList.get( i ) ) ) {
+        return null;
+      }
+    }
+    return nodeDescList.get( 0 );
+  }
+
+  @Override
+  public void addStringMatch( final Set<String> matchSet ) {
+    for ( int i = 1 ; i < nodeDescList.size() ; i++ ) {
+      addStringConstant( nodeDescList.get( i ) , matchSet );
+    }
+  }
+
+  /**
+   * Compute the values of a numeric IN list and whether they are pushed down exactly.
+   * The list does not change, so this is done only once.
+   */
+  private void planNumberFilter() {
+    if ( isNumberPlanned ) {
+      return;
+    }
+    isNumberPlanned = true;
+    if ( nodeDescList.size() < 2 ) {
+      return;
+    }
+    numberCategory = getNumberCategory( nodeDescList , 1 );
+    if ( numberCategory == null ) {
+      return;
+    }
+    numberValues = getNumberValues( nodeDescList , 1 , numberCategory );
+    if ( numberValues != null ) {
+      isExactNumberFilter =
+          isExactNumberFilter( numberValues , isIntegralCategory( numberCategory ) );
+    }
+  }
+
+  /**
+   * Returns false if the pushed down filter is only a superset of IN,
+   * which is the case of a numeric list pushed down as its range.
+   * NOT of such a filter would drop matching rows, so it must not be negated.
+   */
+  public boolean isExactFilter() {
+    planNumberFilter();
+    return isExactNumberFilter;
+  }
+
   @Override
   public void addChildNode( final ExprNodeGenericFuncDesc exprNodeDesc ) {
     throw new UnsupportedOperationException( "IHiveExprNode node can not have child node." );
@@ -123,7 +440,12 @@ public class InHiveExpr implements IHiveExprNode {
     }
     IFilter filter = getEqualsExecuter( nodeDescList , 1 );
     if ( filter == null ) {
-      return null;
+      planNumberFilter();
+      if ( numberValues == null ) {
+        return null;
+      }
+      return createNumberInExecuter(
+          columnDesc , numberCategory , numberValues , isExactNumberFilter );
     }
     return new ExecuterNode( extractNode , filter );
   }
@@ -30,9 +30,18 @@ public class NotEqualsHiveExpr extends EqualsHiveExpr {
     super( nodeDescList );
   }
 
+  @Override
+  public ExprNodeDesc getStringMatchColumn() {
+    return null;
+  }
+
   @Override
   public IExpressionNode getPushDownFilterNode() {
-    return new NotExpressionNode( super.getPushDownFilterNode() );
+    IExpressionNode node = super.getPushDownFilterNode();
+    if ( node == null ) {
+      return null;
+    }
+    return new NotExpressionNode( node );
   }
 
 }
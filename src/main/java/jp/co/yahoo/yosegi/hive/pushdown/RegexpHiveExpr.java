@@ -18,7 +18,12 @@
 
 package jp.co.yahoo.yosegi.hive.pushdown;
 
+import jp.co.yahoo.yosegi.spread.column.filter.BackwardMatchStringFilter;
+import jp.co.yahoo.yosegi.spread.column.filter.ForwardMatchStringFilter;
 import jp.co.yahoo.yosegi.spread.column.filter.IFilter;
+import jp.co.yahoo.yosegi.spread.column.filter.PartialMatchStringFilter;
+import jp.co.yahoo.yosegi.spread.column.filter.PerfectMatchStringFilter;
+import jp.co.yahoo.yosegi.spread.column.filter.RangeStringCompareFilter;
 import jp.co.yahoo.yosegi.spread.column.filter.RegexpMatchStringFilter;
 import jp.co.yahoo.yosegi.spread.expression.ExecuterNode;
 import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
@@ -42,77 +47,148 @@ public class RegexpHiveExpr implements IHiveExprNode {
   }
 
   /**
-   * Create filter condition.
+   * Get the constant string of the pattern.
+   * Returns null if the constant is not a string.
    */
-  public static IExpressionNode getRegexpExecuter(
-      final ExprNodeConstantDesc constDesc , final IExtractNode targetColumn ) {
+  public static String getPatternString( final ExprNodeConstantDesc constDesc ) {
     ObjectInspector objectInspector = constDesc.getWritableObjectInspector();
     if ( objectInspector.getCategory() != ObjectInspector.Category.PRIMITIVE ) {
       return null;
     }
     PrimitiveObjectInspector primitiveObjectInspector = (PrimitiveObjectInspector)objectInspector;
-    IFilter filter = null;
-    switch ( primitiveObjectInspector.getPrimitiveCategory() ) {
-      case STRING:
-        String regexp = UDFLike.likePatternToRegExp(
-            ( (WritableConstantStringObjectInspector)primitiveObjectInspector )
-            .getWritableConstantValue().toString() );
-        filter = new RegexpMatchStringFilter( "^" + regexp + "$" );
-        break;
-      case BINARY:
-      case BOOLEAN:
-      case BYTE:
-      case DOUBLE:
-      case FLOAT:
-      case INT:
-      case LONG:
-      case SHORT:
-      case DATE:
-      case DECIMAL:
-      case TIMESTAMP:
-      case VOID:
-      default:
-        filter = null;
-        break;
+    if ( primitiveObjectInspector.getPrimitiveCategory()
+        != PrimitiveObjectInspector.PrimitiveCategory.STRING ) {
+      return null;
+    }
+    Object constValue = ( (WritableConstantStringObjectInspector)primitiveObjectInspector )
+        .getWritableConstantValue();
+    if ( constValue == null ) {
+      return null;
     }
-    if ( filter == null ) {
+    return constValue.toString();
+  }
+
+  /**
+   * Create filter condition.
+   */
+  public static IExpressionNode getRegexpExecuter(
+      final ExprNodeConstantDesc constDesc , final IExtractNode targetColumn ) {
+    String likePattern = getPatternString( constDesc );
+    if ( likePattern == null ) {
       return null;
     }
+    return getLikeExecuter( likePattern , targetColumn );
+  }
+
+  /**
+   * Create filter condition of LIKE.
+   * Patterns that only have % at the beginning or the end are converted to
+   * string match filters, and the others are converted to a regular expression.
+   */
+  public static IExpressionNode getLikeExecuter(
+      final String likePattern , final IExtractNode targetColumn ) {
+    StringBuilder literal = new StringBuilder();
+    boolean startsWithAny = false;
+    boolean endsWithAny = false;
+    boolean isSimple = true;
+    for ( int i = 0 ; i < likePattern.length() ; i++ ) {
+      char current = likePattern.charAt( i );
+      if ( current == '\\' && i + 1 < likePattern.length()
+          && ( likePattern.charAt( i + 1 ) == '_' || likePattern.charAt( i + 1 ) == '%' ) ) {
+        if ( endsWithAny ) {
+          isSimple = false;
+          break;
+        }
+        literal.append( likePattern.charAt( i + 1 ) );
+        i++;
+      } else if ( current == '_' ) {
+        isSimple = false;
+        break;
+      } else if ( current == '%' ) {
+        if ( literal.length() == 0 ) {
+          startsWithAny = true;
+        } else {
+          endsWithAny = true;
+        }
+      } else {
+        if ( endsWithAny ) {
+          isSimple = false;
+          break;
+        }
+        literal.append( current );
+      }
+    }
+
+    if ( ! isSimple || literal.length() == 0 ) {
+      // Same as UDFLike, the wildcards also match line terminators.
+      IFilter filter = new RegexpMatchStringFilter(
+          "(?s)\\A" + UDFLike.likePatternToRegExp( likePattern ) + "\\z" );
+      return new ExecuterNode( targetColumn , filter );
+    }
+
+    String literalString = literal.toString();
+    IFilter filter;
+    if ( startsWithAny && endsWithAny ) {
+      filter = new PartialMatchStringFilter( literalString );
+    } else if ( startsWithAny ) {
+      filter = new BackwardMatchStringFilter( literalString );
+    } else if ( endsWithAny ) {
+      filter = getForwardMatchFilter( literalString );
+    } else {
+      filter = new PerfectMatchStringFilter( literalString );
+    }
     return new ExecuterNode( targetColumn , filter );
   }
 
+  /**
+   * Strings that start with the prefix are the range from the prefix to
+   * the prefix whose last character is incremented,
+   * so the range filter is used to skip blocks by the min and max of the block.
+   */
+  private static IFilter getForwardMatchFilter( final String prefix ) {
+    char lastChar = prefix.charAt( prefix.length() - 1 );
+    if ( Character.isSurrogate( lastChar )
+        || Character.isSurrogate( (char)( lastChar + 1 ) )
+        || lastChar == Character.MAX_VALUE ) {
+      return new ForwardMatchStringFilter( prefix );
+    }
+    String upperString = prefix.substring( 0 , prefix.length() - 1 ) + (char)( lastChar + 1 );
+    return new RangeStringCompareFilter( prefix , true , upperString , false , false );
+  }
+
+  /**
+   * Create filter condition from the constant pattern and the column.
+   */
+  protected IExpressionNode getExecuter(
+      final ExprNodeConstantDesc constDesc , final IExtractNode targetColumn ) {
+    return getRegexpExecuter( constDesc , targetColumn );
+  }
+
   @Override
   public void addChildNode( final ExprNodeGenericFuncDesc exprNodeDesc ) {
     throw new UnsupportedOperationException( "IHiveExprNode node can not have child node." );
   }
 
+  /**
+   * The first child is the target and the second child is the pattern.
+   */
   @Override
   public IExpressionNode getPushDownFilterNode() {
     if ( nodeDescList.size() != 2 ) {
       return null;
     }
-    ExprNodeDesc exprNode1 = nodeDescList.get( 0 );
-    ExprNodeDesc exprNode2 = nodeDescList.get( 1 );
-
-    ExprNodeDesc columnDesc;
-    ExprNodeConstantDesc constantDesc;
-
-    if ( exprNode1 instanceof ExprNodeConstantDesc ) {
-      columnDesc = exprNode2;
-      constantDesc = (ExprNodeConstantDesc)exprNode1;
-    } else if ( exprNode2 instanceof ExprNodeConstantDesc ) {
-      columnDesc = exprNode1;
-      constantDesc = (ExprNodeConstantDesc)exprNode2;
-    } else {
+    ExprNodeDesc columnDesc = nodeDescList.get( 0 );
+    ExprNodeDesc patternDesc = nodeDescList.get( 1 );
+    if ( ! ( patternDesc instanceof ExprNodeConstantDesc ) ) {
       return null;
-    } 
+    }
 
     IExtractNode extractNode = CreateExtractNodeUtil.getExtractNode( columnDesc ); 
     if ( extractNode == null ) {
       return null;
     }
 
-    return getRegexpExecuter( constantDesc , extractNode );
+    return getExecuter( (ExprNodeConstantDesc)patternDesc , extractNode );
   }
 
 }
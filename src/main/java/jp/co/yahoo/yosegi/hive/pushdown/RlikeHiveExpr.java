@@ -0,0 +1,73 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.pushdown;
+
+import jp.co.yahoo.yosegi.spread.column.filter.IFilter;
+import jp.co.yahoo.yosegi.spread.column.filter.RegexpMatchStringFilter;
+import jp.co.yahoo.yosegi.spread.expression.ExecuterNode;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.IExtractNode;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.regex.PatternSyntaxException;
+
+public class RlikeHiveExpr extends RegexpHiveExpr {
+
+  public RlikeHiveExpr( final List<ExprNodeDesc> nodeDescList ) {
+    super( nodeDescList );
+  }
+
+  /**
+   * Create filter condition of RLIKE and REGEXP.
+   * Hive matches the pattern to any part of the string,
+   * so the pattern is wrapped to match the whole string.
+   */
+  public static IExpressionNode getRlikeExecuter(
+      final String regexp , final IExtractNode targetColumn ) {
+    // Hive does not match anything with an empty pattern.
+    if ( regexp.isEmpty() ) {
+      return null;
+    }
+    // A quote or a comment that is not closed would also swallow the wrapping.
+    if ( regexp.contains( "\\Q" ) || regexp.contains( "#" ) ) {
+      return null;
+    }
+    try {
+      Pattern.compile( regexp );
+    } catch ( PatternSyntaxException ex ) {
+      return null;
+    }
+    IFilter filter = new RegexpMatchStringFilter( "(?s:.*)(?:" + regexp + ")(?s:.*)" );
+    return new ExecuterNode( targetColumn , filter );
+  }
+
+  @Override
+  protected IExpressionNode getExecuter(
+      final ExprNodeConstantDesc constDesc , final IExtractNode targetColumn ) {
+    String regexp = getPatternString( constDesc );
+    if ( regexp == null ) {
+      return null;
+    }
+    return getRlikeExecuter( regexp , targetColumn );
+  }
+
+}
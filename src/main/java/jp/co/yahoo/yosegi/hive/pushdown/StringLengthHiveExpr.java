@@ -0,0 +1,186 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.pushdown;
+
+import jp.co.yahoo.yosegi.spread.column.filter.PerfectMatchStringFilter;
+import jp.co.yahoo.yosegi.spread.expression.ExecuterNode;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.IExtractNode;
+import jp.co.yahoo.yosegi.spread.expression.NotExpressionNode;
+import org.apache.hadoop.hive.ql.plan.ExprNodeConstantDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeDesc;
+import org.apache.hadoop.hive.ql.plan.ExprNodeGenericFuncDesc;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDF;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFLength;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqual;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPEqualOrLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPGreaterThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPLessThan;
+import org.apache.hadoop.hive.ql.udf.generic.GenericUDFOPNotEqual;
+import org.apache.hadoop.hive.serde2.objectinspector.ConstantObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
+import org.apache.hadoop.hive.serde2.objectinspector.primitive.PrimitiveObjectInspectorUtils;
+
+import java.util.List;
+
+/**
+ * Comparison of length() of a string column with a constant.
+ * Only the comparisons that mean "is empty" or "is not empty" are pushed down,
+ * since the empty string is the only string of length 0.
+ */
+public class StringLengthHiveExpr implements IHiveExprNode {
+
+  private final GenericUDF udf;
+  private final List<ExprNodeDesc> nodeDescList;
+
+  public StringLengthHiveExpr( final GenericUDF udf , final List<ExprNodeDesc> nodeDescList ) {
+    this.udf = udf;
+    this.nodeDescList = nodeDescList;
+  }
+
+  /**
+   * Returns true if the nodes are length() of a string column and a constant.
+   */
+  public static boolean isStringLengthCompare( final List<ExprNodeDesc> nodeDescList ) {
+    if ( nodeDescList.size() != 2 ) {
+      return false;
+    }
+    return ( getStringLengthColumn( nodeDescList.get( 0 ) ) != null
+          && nodeDescList.get( 1 ) instanceof ExprNodeConstantDesc )
+        || ( getStringLengthColumn( nodeDescList.get( 1 ) ) != null
+          && nodeDescList.get( 0 ) instanceof ExprNodeConstantDesc );
+  }
+
+  /**
+   * Returns the column of length( column ), or null if the node is not length() of a string.
+   */
+  private static ExprNodeDesc getStringLengthColumn( final ExprNodeDesc exprNode ) {
+    if ( ! ( exprNode instanceof ExprNodeGenericFuncDesc )
+        || ! ( ( (ExprNodeGenericFuncDesc)exprNode ).getGenericUDF()
+          instanceof GenericUDFLength ) ) {
+      return null;
+    }
+    List<ExprNodeDesc> childList = exprNode.getChildren();
+    if ( childList.size() != 1 || ! InHiveExpr.isStringColumn( childList.get( 0 ) ) ) {
+      return null;
+    }
+    return childList.get( 0 );
+  }
+
+  /**
+   * Returns the integer value of the constant, or null if it is not an integer.
+   */
+  private static Long getLengthConstant( final ExprNodeDesc exprNode ) {
+    PrimitiveObjectInspector primitiveObjectInspector =
+        InHiveExpr.getPrimitiveObjectInspector( exprNode );
+    if ( primitiveObjectInspector == null ) {
+      return null;
+    }
+    switch ( primitiveObjectInspector.getPrimitiveCategory() ) {
+      case BYTE:
+      case SHORT:
+      case INT:
+        Object constant =
+            ( (ConstantObjectInspector)primitiveObjectInspector ).getWritableConstantValue();
+        if ( constant == null ) {
+          return null;
+        }
+        return Long.valueOf(
+            PrimitiveObjectInspectorUtils.getLong( constant , primitiveObjectInspector ) );
+      default:
+        return null;
+    }
+  }
+
+  @Override
+  public void addChildNode( final ExprNodeGenericFuncDesc exprNodeDesc ) {
+    throw new UnsupportedOperationException( "IHiveExprNode node can not have child node." );
+  }
+
+  @Override
+  public IExpressionNode getPushDownFilterNode() {
+    if ( ! isStringLengthCompare( nodeDescList ) ) {
+      return null;
+    }
+    boolean isLengthLeft = getStringLengthColumn( nodeDescList.get( 0 ) ) != null;
+    ExprNodeDesc lengthDesc = nodeDescList.get( isLengthLeft ? 0 : 1 );
+    Long constant = getLengthConstant( nodeDescList.get( isLengthLeft ? 1 : 0 ) );
+    if ( constant == null ) {
+      return null;
+    }
+    long value = constant.longValue();
+
+    // The range of the length that matches. Length is never negative.
+    long minLength = 0;
+    long maxLength = Long.MAX_VALUE;
+    if ( udf instanceof GenericUDFOPEqual ) {
+      minLength = value;
+      maxLength = value;
+    } else if ( udf instanceof GenericUDFOPNotEqual ) {
+      if ( value != 0 ) {
+        return null;
+      }
+      minLength = 1;
+    } else {
+      boolean isGreater;
+      boolean isOrEqual;
+      if ( udf instanceof GenericUDFOPGreaterThan ) {
+        isGreater = true;
+        isOrEqual = false;
+      } else if ( udf instanceof GenericUDFOPEqualOrGreaterThan ) {
+        isGreater = true;
+        isOrEqual = true;
+      } else if ( udf instanceof GenericUDFOPLessThan ) {
+        isGreater = false;
+        isOrEqual = false;
+      } else if ( udf instanceof GenericUDFOPEqualOrLessThan ) {
+        isGreater = false;
+        isOrEqual = true;
+      } else {
+        return null;
+      }
+      // "0 < length( s )" is "length( s ) > 0".
+      if ( ! isLengthLeft ) {
+        isGreater = ! isGreater;
+      }
+      if ( isGreater ) {
+        minLength = isOrEqual ? value : value + 1;
+      } else {
+        maxLength = isOrEqual ? value : value - 1;
+      }
+    }
+    minLength = Math.max( minLength , 0 );
+
+    ExprNodeDesc columnDesc = getStringLengthColumn( lengthDesc );
+    IExtractNode extractNode = CreateExtractNodeUtil.getExtractNode( columnDesc );
+    if ( extractNode == null ) {
+      return null;
+    }
+    IExpressionNode emptyNode =
+        new ExecuterNode( extractNode , new PerfectMatchStringFilter( "" ) );
+    if ( minLength == 0 && maxLength == 0 ) {
+      return emptyNode;
+    } else if ( minLength == 1 && maxLength == Long.MAX_VALUE ) {
+      return new NotExpressionNode( emptyNode );
+    }
+    return null;
+  }
+
+}
@@ -0,0 +1,86 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.yahoo.yosegi.hive;
+
+import java.io.IOException;
+
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.hive.io.ColumnAndIndex;
+
+public class TestSpreadColumnCache{
+
+  private Spread createSpread() throws IOException{
+    Map<String,Object> struct1 = new HashMap<String,Object>();
+    struct1.put( "v" , new StringObj( "a" ) );
+    Map<String,Object> struct2 = new HashMap<String,Object>();
+    struct2.put( "v" , new StringObj( "b" ) );
+    Map<String,Object> dataContainer = new HashMap<String,Object>();
+    dataContainer.put( "s1" , struct1 );
+    dataContainer.put( "s2" , struct2 );
+
+    Spread spread = new Spread();
+    spread.addRow( dataContainer );
+    return spread;
+  }
+
+  @Test
+  public void T_getColumn_1() throws IOException{
+    Spread spread = createSpread();
+    SpreadColumnCache cache = new SpreadColumnCache();
+    IColumn column1 = cache.getColumn( new ColumnAndIndex( spread.getColumn( "s1" ) , 0 , 0 ) , "v" );
+    IColumn column2 = cache.getColumn( new ColumnAndIndex( spread.getColumn( "s2" ) , 0 , 0 ) , "v" );
+    assertEquals( "a" , ( (PrimitiveObject)column1.get(0).getRow() ).getString() );
+    assertEquals( "b" , ( (PrimitiveObject)column2.get(0).getRow() ).getString() );
+    assertSame( column1 ,
+        cache.getColumn( new ColumnAndIndex( spread.getColumn( "s1" ) , 0 , 0 ) , "v" ) );
+  }
+
+  @Test
+  public void T_getColumn_2() throws IOException{
+    SpreadColumnCache cache = new SpreadColumnCache();
+    Spread spread1 = createSpread();
+    Spread spread2 = createSpread();
+    IColumn column1 = cache.getColumn( new ColumnAndIndex( spread1.getColumn( "s1" ) , 0 , 0 ) , "v" );
+    IColumn column2 = cache.getColumn( new ColumnAndIndex( spread2.getColumn( "s1" ) , 0 , 1 ) , "v" );
+    assertNotSame( column1 , column2 );
+    assertSame( spread2.getColumn( "s1" ).getColumn( "v" ) , column2 );
+  }
+
+  @Test
+  public void T_createReference_1() throws IOException{
+    Spread spread = createSpread();
+    SpreadColumnCache.ChildColumnReference reference =
+        new SpreadColumnCache().createReference( "v" );
+    ColumnAndIndex parent1 = new ColumnAndIndex( spread.getColumn( "s1" ) , 0 , 0 );
+    ColumnAndIndex parent2 = new ColumnAndIndex( spread.getColumn( "s2" ) , 0 , 0 );
+    assertEquals( "a" , ( (PrimitiveObject)reference.get( parent1 ).get(0).getRow() ).getString() );
+    assertEquals( "b" , ( (PrimitiveObject)reference.get( parent2 ).get(0).getRow() ).getString() );
+    assertEquals( "a" , ( (PrimitiveObject)reference.get( parent1 ).get(0).getRow() ).getString() );
+  }
+
+}
@@ -307,4 +307,54 @@ public class TestUnionField{
     assertEquals( union.getObject().getClass().getName() , ColumnAndIndex.class.getName() );
   }
 
+  @Test
+  public void T_union_1() throws IOException{
+    UnionTypeInfo childUnionTypeInfo = new UnionTypeInfo();
+    ArrayList<TypeInfo> childTypeInfoList = new ArrayList<TypeInfo>();
+    childTypeInfoList.add( TypeInfoFactory.stringTypeInfo );
+    childTypeInfoList.add( TypeInfoFactory.intTypeInfo );
+    childUnionTypeInfo.setAllUnionObjectTypeInfos( childTypeInfoList );
+
+    UnionTypeInfo unionTypeInfo = new UnionTypeInfo();
+    ArrayList<TypeInfo> uniTypeInfoList = new ArrayList<TypeInfo>();
+    uniTypeInfoList.add( TypeInfoFactory.intTypeInfo );
+    uniTypeInfoList.add( childUnionTypeInfo );
+    unionTypeInfo.setAllUnionObjectTypeInfos( uniTypeInfoList );
+    UnionField unionField = new UnionField( unionTypeInfo );
+
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "hoge" );
+    column.add( ColumnType.STRING , new StringObj( "f1" ) , 0 );
+    UnionObject union = unionField.get( new ColumnAndIndex( column , 0 , 0 ) );
+    assertEquals( union.getTag() , (byte)1 );
+    UnionObject childUnion = (UnionObject)( union.getObject() );
+    assertEquals( childUnion.getTag() , (byte)0 );
+    assertEquals( childUnion.getObject() , new Text( "f1" ) );
+
+    IColumn intColumn = new PrimitiveColumn( ColumnType.INTEGER , "hoge" );
+    intColumn.add( ColumnType.INTEGER , new IntegerObj( 1 ) , 0 );
+    UnionObject intUnion = unionField.get( new ColumnAndIndex( intColumn , 0 , 0 ) );
+    assertEquals( intUnion.getTag() , (byte)0 );
+    assertEquals( intUnion.getObject() , new IntWritable( 1 ) );
+  }
+
+  @Test
+  public void T_reuse_1() throws IOException{
+    UnionTypeInfo unionTypeInfo = getTypeInfo();
+    UnionField unionField = new UnionField( unionTypeInfo , true );
+
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "hoge" );
+    column.add( ColumnType.STRING , new StringObj( "f1" ) , 0 );
+    column.add( ColumnType.STRING , new StringObj( "f2" ) , 1 );
+
+    UnionObject union1 = unionField.get( new ColumnAndIndex( column , 0 , 0 ) );
+    assertEquals( union1.getTag() , (byte)8 );
+    assertEquals( union1.getObject() , new Text( "f1" ) );
+    Object value1 = union1.getObject();
+    UnionObject union2 = unionField.get( new ColumnAndIndex( column , 1 , 0 ) );
+    assertEquals( union2.getTag() , (byte)8 );
+    assertEquals( union2.getObject() , new Text( "f2" ) );
+    assertSame( union1 , union2 );
+    assertSame( value1 , union2.getObject() );
+  }
+
 }
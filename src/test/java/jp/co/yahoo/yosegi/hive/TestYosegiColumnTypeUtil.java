@@ -0,0 +1,55 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.yahoo.yosegi.hive;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.apache.hadoop.hive.serde2.typeinfo.StructTypeInfo;
+import org.apache.hadoop.hive.serde2.typeinfo.TypeInfoFactory;
+
+public class TestYosegiColumnTypeUtil{
+
+  @Test
+  public void T_createProjectionTypeInfo_1(){
+    StructTypeInfo typeInfo = YosegiColumnTypeUtil.createProjectionTypeInfo(
+        "str,num,nest" , "string,int,struct<a:string,b:int>" , "" );
+    assertEquals( Arrays.asList( "str" , "num" , "nest" ) , typeInfo.getAllStructFieldNames() );
+    assertEquals( TypeInfoFactory.stringTypeInfo , typeInfo.getStructFieldTypeInfo( "str" ) );
+    assertEquals( TypeInfoFactory.intTypeInfo , typeInfo.getStructFieldTypeInfo( "num" ) );
+  }
+
+  @Test
+  public void T_createProjectionTypeInfo_2(){
+    StructTypeInfo typeInfo = YosegiColumnTypeUtil.createProjectionTypeInfo(
+        "str,num,nest" , "string,int,struct<a:string,b:int>" , "num,str" );
+    assertEquals( Arrays.asList( "str" , "num" ) , typeInfo.getAllStructFieldNames() );
+    assertEquals( TypeInfoFactory.intTypeInfo , typeInfo.getStructFieldTypeInfo( "num" ) );
+  }
+
+  @Test
+  public void T_createProjectionTypeInfo_3(){
+    StructTypeInfo typeInfo = YosegiColumnTypeUtil.createProjectionTypeInfo(
+        "str,num" , "string,int" , "unknown" );
+    assertTrue( typeInfo.getAllStructFieldNames().isEmpty() );
+  }
+
+}
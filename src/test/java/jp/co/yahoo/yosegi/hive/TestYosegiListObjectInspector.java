@@ -276,4 +276,59 @@ public class TestYosegiListObjectInspector{
     assertEquals( "hoge" , result.get( 3 ) );
   }
 
+  @Test
+  public void T_getListLength_4() throws IOException{
+    ListTypeInfo info = new ListTypeInfo();
+    info.setListElementTypeInfo( TypeInfoFactory.stringTypeInfo );
+    YosegiListObjectInspector inspector = new YosegiListObjectInspector( info );
+
+    Spread spread = new Spread();
+    for( int i = 1 ; i <= 2 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      List<Object> array = new ArrayList<Object>();
+      for( int n = 0 ; n < i ; n++ ){
+        array.add( new StringObj( "v" + i ) );
+      }
+      dataContainer.put( "array" , array );
+      spread.addRow( dataContainer );
+    }
+
+    ColumnAndIndex columnAndIndex = new ColumnAndIndex( spread.getColumn( "array" ) , 0 , 0 );
+    assertEquals( 1 , inspector.getListLength( columnAndIndex ) );
+    assertEquals( new Text( "v1" ) , inspector.getListElement( columnAndIndex , 0 ) );
+    assertNull( inspector.getListElement( columnAndIndex , 1 ) );
+    columnAndIndex.index = 1;
+    assertEquals( 2 , inspector.getListLength( columnAndIndex ) );
+    assertEquals( new Text( "v2" ) , inspector.getListElement( columnAndIndex , 1 ) );
+    columnAndIndex.index = 0;
+    assertEquals( 1 , inspector.getListLength( columnAndIndex ) );
+  }
+
+  @Test
+  public void T_getList_3() throws IOException{
+    ListTypeInfo info = new ListTypeInfo();
+    info.setListElementTypeInfo( TypeInfoFactory.stringTypeInfo );
+    YosegiListObjectInspector inspector = new YosegiListObjectInspector( info );
+
+    Spread spread = new Spread();
+    for( int i = 1 ; i <= 2 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      List<Object> array = new ArrayList<Object>();
+      for( int n = 0 ; n < i ; n++ ){
+        array.add( new StringObj( "v" + i + "_" + n ) );
+      }
+      dataContainer.put( "array" , array );
+      spread.addRow( dataContainer );
+    }
+
+    ColumnAndIndex columnAndIndex = new ColumnAndIndex( spread.getColumn( "array" ) , 1 , 0 );
+    List list = inspector.getList( columnAndIndex );
+    columnAndIndex.index = 0;
+    assertEquals( 1 , inspector.getListLength( columnAndIndex ) );
+    assertEquals( 2 , list.size() );
+    assertEquals( new Text( "v2_0" ) , list.get(0) );
+    assertEquals( new Text( "v2_1" ) , list.get(1) );
+    assertThrows( IndexOutOfBoundsException.class , () -> list.get(2) );
+  }
+
 }
@@ -19,6 +19,8 @@ package jp.co.yahoo.yosegi.hive;
 
 import java.io.IOException;
 
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Map;
 import java.util.HashMap;
 
@@ -38,6 +40,8 @@ import jp.co.yahoo.yosegi.spread.Spread;
 import org.apache.hadoop.io.*;
 
 import org.apache.hadoop.hive.serde2.typeinfo.*;
+import org.apache.hadoop.hive.serde2.objectinspector.StructField;
+import org.apache.hadoop.hive.serde2.objectinspector.StructObjectInspector;
 import org.apache.hadoop.hive.serde2.objectinspector.primitive.*;
 import org.apache.hadoop.hive.serde2.objectinspector.ObjectInspector.Category;
 
@@ -117,6 +121,42 @@ public class TestYosegiMapObjectInspector{
     assertEquals( new Text( "100" ) , inspector.getMapValueElement( result , "key3" ) );
   }
 
+  @Test
+  public void T_getMapValueElement_2() throws IOException{
+    Map<String,Object> dataContainer = new HashMap<String,Object>();
+    Map<String,Object> map = new HashMap<String,Object>();
+    Map<String,Object> struct1 = new HashMap<String,Object>();
+    struct1.put( "v" , new StringObj( "aaa" ) );
+    Map<String,Object> struct2 = new HashMap<String,Object>();
+    struct2.put( "v" , new StringObj( "bbb" ) );
+    map.put( "key1" , struct1 );
+    map.put( "key2" , struct2 );
+    dataContainer.put( "map" , map );
+
+    Spread spread = new Spread();
+    spread.addRow( dataContainer );
+
+    ColumnAndIndex columnAndIndex = new ColumnAndIndex( spread.getColumn( "map" ) , 0 , 0 );
+
+    StructTypeInfo structInfo = new StructTypeInfo();
+    structInfo.setAllStructFieldNames( new ArrayList<String>( Arrays.asList( "v" ) ) );
+    structInfo.setAllStructFieldTypeInfos(
+        new ArrayList<TypeInfo>( Arrays.asList( TypeInfoFactory.stringTypeInfo ) ) );
+    MapTypeInfo info = new MapTypeInfo();
+    info.setMapKeyTypeInfo( TypeInfoFactory.stringTypeInfo );
+    info.setMapValueTypeInfo( structInfo );
+    YosegiMapObjectInspector inspector = new YosegiMapObjectInspector( info );
+    StructObjectInspector valueInspector =
+        (StructObjectInspector)inspector.getMapValueObjectInspector();
+    StructField field = valueInspector.getStructFieldRef( "v" );
+
+    Object value1 = inspector.getMapValueElement( columnAndIndex , "key1" );
+    Object value2 = inspector.getMapValueElement( columnAndIndex , "key2" );
+    assertEquals( new Text( "aaa" ) , valueInspector.getStructFieldData( value1 , field ) );
+    assertEquals( new Text( "bbb" ) , valueInspector.getStructFieldData( value2 , field ) );
+    assertEquals( new Text( "aaa" ) , valueInspector.getStructFieldData( value1 , field ) );
+  }
+
   @Test
   public void T_getMap_1() throws IOException{
     Map<String,Object> dataContainer = new HashMap<String,Object>();
@@ -166,4 +206,64 @@ public class TestYosegiMapObjectInspector{
     assertEquals( 3 , inspector.getMapSize( result ) );
   }
 
+  @Test
+  public void T_getMap_2() throws IOException{
+    Spread spread = new Spread();
+    Map<String,Object> dataContainer1 = new HashMap<String,Object>();
+    Map<String,Object> map1 = new HashMap<String,Object>();
+    map1.put( "key1" , new StringObj( "aaa" ) );
+    dataContainer1.put( "map" , map1 );
+    spread.addRow( dataContainer1 );
+    Map<String,Object> dataContainer2 = new HashMap<String,Object>();
+    Map<String,Object> map2 = new HashMap<String,Object>();
+    map2.put( "key2" , new StringObj( "bbb" ) );
+    map2.put( "key3" , new StringObj( "ccc" ) );
+    dataContainer2.put( "map" , map2 );
+    spread.addRow( dataContainer2 );
+
+    MapTypeInfo info = new MapTypeInfo();
+    info.setMapKeyTypeInfo( TypeInfoFactory.stringTypeInfo );
+    info.setMapValueTypeInfo( TypeInfoFactory.stringTypeInfo );
+    YosegiMapObjectInspector inspector = new YosegiMapObjectInspector( info );
+
+    Map<?,?> result1 = inspector.getMap( new ColumnAndIndex( spread.getColumn( "map" ) , 0 , 0 ) );
+    assertEquals( 1 , result1.size() );
+    assertEquals( new Text( "aaa" ) , result1.get( "key1" ) );
+    assertNull( result1.get( "key2" ) );
+    assertFalse( result1.containsKey( "key2" ) );
+    assertTrue( result1.containsKey( "key1" ) );
+
+    Map<?,?> result2 = inspector.getMap( new ColumnAndIndex( spread.getColumn( "map" ) , 1 , 0 ) );
+    assertEquals( 2 , result2.size() );
+    Map<Object,Object> copy = new HashMap<Object,Object>( result2 );
+    assertEquals( new Text( "bbb" ) , copy.get( "key2" ) );
+    assertEquals( new Text( "ccc" ) , copy.get( "key3" ) );
+    assertFalse( copy.containsKey( "key1" ) );
+  }
+
+  @Test
+  public void T_getMapSize_2() throws IOException{
+    Spread spread = new Spread();
+    Map<String,Object> dataContainer1 = new HashMap<String,Object>();
+    Map<String,Object> map1 = new HashMap<String,Object>();
+    map1.put( "key1" , new StringObj( "aaa" ) );
+    dataContainer1.put( "map" , map1 );
+    spread.addRow( dataContainer1 );
+    Map<String,Object> dataContainer2 = new HashMap<String,Object>();
+    Map<String,Object> map2 = new HashMap<String,Object>();
+    map2.put( "key2" , new StringObj( "bbb" ) );
+    map2.put( "key3" , new StringObj( "ccc" ) );
+    dataContainer2.put( "map" , map2 );
+    spread.addRow( dataContainer2 );
+
+    MapTypeInfo info = new MapTypeInfo();
+    info.setMapKeyTypeInfo( TypeInfoFactory.stringTypeInfo );
+    info.setMapValueTypeInfo( TypeInfoFactory.stringTypeInfo );
+    YosegiMapObjectInspector inspector = new YosegiMapObjectInspector( info );
+
+    assertEquals( 1 , inspector.getMapSize( new ColumnAndIndex( spread.getColumn( "map" ) , 0 , 0 ) ) );
+    assertEquals( 2 , inspector.getMapSize( new ColumnAndIndex( spread.getColumn( "map" ) , 1 , 0 ) ) );
+    assertEquals( -1 , inspector.getMapSize( null ) );
+  }
+
 }
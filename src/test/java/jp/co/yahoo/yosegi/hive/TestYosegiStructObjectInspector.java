@@ -192,6 +192,27 @@ public class TestYosegiStructObjectInspector{
     assertEquals( result , new Text( "a" ) );
   }
 
+  @Test
+  public void T_getStructFieldData_3() throws IOException{
+    YosegiStructObjectInspector inspector = new YosegiStructObjectInspector( getTypeInfo() , true );
+
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 2 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "str" , new StringObj( "a" + i ) );
+      spread.addRow( dataContainer );
+    }
+    SpreadColumn spreadColumn = new SpreadColumn( "root" );
+    spreadColumn.setSpread( spread );
+    StructField field = inspector.getStructFieldRef( "str" );
+
+    Object result1 = inspector.getStructFieldData( new ColumnAndIndex( spreadColumn , 0 , 0 ) , field );
+    assertEquals( result1 , new Text( "a0" ) );
+    Object result2 = inspector.getStructFieldData( new ColumnAndIndex( spreadColumn , 1 , 0 ) , field );
+    assertEquals( result2 , new Text( "a1" ) );
+    assertSame( result1 , result2 );
+  }
+
   @Test
   public void T_getStructFieldData_2() throws IOException{
     YosegiStructObjectInspector inspector = new YosegiStructObjectInspector( getTypeInfo() );
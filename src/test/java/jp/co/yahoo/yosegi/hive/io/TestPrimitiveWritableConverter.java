@@ -0,0 +1,71 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.column.PrimitiveColumn;
+
+import org.apache.hadoop.io.*;
+
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector.PrimitiveCategory;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestPrimitiveWritableConverter{
+
+  @Test
+  public void T_convert_1() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "t" );
+    column.add( ColumnType.STRING , new StringObj( "a" ) , 0 );
+    column.add( ColumnType.STRING , new StringObj( "bc" ) , 1 );
+    column.add( ColumnType.STRING , new StringObj( "d" ) , 3 );
+
+    PrimitiveWritableConverter converter = new PrimitiveWritableConverter( PrimitiveCategory.STRING );
+    Writable first = converter.convert( column.get( 0 ) );
+    assertEquals( new Text( "a" ) , first );
+    assertSame( first , converter.convert( column.get( 1 ) ) );
+    assertEquals( new Text( "bc" ) , first );
+    assertNull( converter.convert( column.get( 2 ) ) );
+    assertSame( first , converter.convert( column.get( 3 ) ) );
+    assertEquals( new Text( "d" ) , first );
+  }
+
+  @Test
+  public void T_convert_2() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "t" );
+    column.add( ColumnType.STRING , new StringObj( "1" ) , 0 );
+    column.add( ColumnType.STRING , new StringObj( "a" ) , 1 );
+    column.add( ColumnType.STRING , new StringObj( "2" ) , 2 );
+
+    PrimitiveWritableConverter converter = new PrimitiveWritableConverter( PrimitiveCategory.LONG );
+    Writable first = converter.convert( column.get( 0 ) );
+    assertEquals( new LongWritable( 1 ) , first );
+    assertNull( converter.convert( column.get( 1 ) ) );
+    assertSame( first , converter.convert( column.get( 2 ) ) );
+    assertEquals( new LongWritable( 2 ) , first );
+  }
+
+}
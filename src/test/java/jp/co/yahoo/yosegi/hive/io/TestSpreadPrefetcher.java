@@ -0,0 +1,110 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io;
+
+import java.io.*;
+
+import java.time.Duration;
+
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.reader.YosegiReader;
+import jp.co.yahoo.yosegi.writer.YosegiWriter;
+import jp.co.yahoo.yosegi.spread.Spread;
+
+import jp.co.yahoo.yosegi.config.Configuration;
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestSpreadPrefetcher{
+
+  private void createFile( final String path )throws IOException{
+    OutputStream out = new FileOutputStream( path );
+    Configuration config = new jp.co.yahoo.yosegi.config.Configuration();
+    YosegiWriter writer = new YosegiWriter( out , config );
+
+    Map<String,Object> dataContainer = new HashMap<String,Object>();
+
+    Spread s = new Spread();
+    for( int i = 0 ; i < 3000 ; i++ ){
+      dataContainer.put( "num" , new IntegerObj( i ) );
+      s.addRow( dataContainer );
+      if( ( i % 500 ) == 499 ){
+        writer.append( s );
+        s = new Spread();
+      }
+    }
+    writer.close();
+  }
+
+  @Test
+  public void T_next_1() throws IOException{
+    String dirName = this.getClass().getClassLoader().getResource( "io/out" ).getPath();
+    String outPath = String.format( "%s/TestSpreadPrefetcher_T_next_1.yosegi" , dirName );
+    createFile( outPath );
+
+    File inFile = new File( outPath );
+    YosegiReader reader = new YosegiReader();
+    reader.setNewStream( new FileInputStream( inFile ) , inFile.length() , new Configuration() , 0 , inFile.length() );
+    SpreadPrefetcher prefetcher = new SpreadPrefetcher( reader , 2 );
+    int spreadCount = 0;
+    int rowCount = 0;
+    while( prefetcher.hasNext() ){
+      rowCount += prefetcher.next().size();
+      spreadCount++;
+    }
+    assertEquals( 6 , spreadCount );
+    assertEquals( 3000 , rowCount );
+    assertFalse( prefetcher.hasNext() );
+    assertTrue( 0.0f < prefetcher.getProgress() );
+    assertTrue( 0 < prefetcher.getReadPos() );
+    assertNotNull( prefetcher.getReadStats() );
+    prefetcher.close();
+    reader.close();
+  }
+
+  @Test
+  public void T_hasNext_1(){
+    YosegiReader reader = new YosegiReader(){
+      @Override
+      public boolean hasNext(){
+        throw new IllegalStateException( "broken block" );
+      }
+    };
+    SpreadPrefetcher prefetcher = new SpreadPrefetcher( reader , 2 );
+    IOException ex = assertTimeoutPreemptively( Duration.ofSeconds( 10 ) ,
+      () -> assertThrows( IOException.class , () -> prefetcher.hasNext() )
+    );
+    assertTrue( ex.getCause() instanceof IllegalStateException );
+  }
+
+  @Test
+  public void T_newInstance_1(){
+    assertThrows( IllegalArgumentException.class ,
+      () -> {
+        new SpreadPrefetcher( new YosegiReader() , 0 );
+      }
+    );
+  }
+
+}
@@ -0,0 +1,153 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io;
+
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
+
+import org.apache.hadoop.io.*;
+
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+import org.apache.hadoop.hive.serde2.objectinspector.StructField;
+
+import jp.co.yahoo.yosegi.hive.YosegiStructObjectInspector;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestSpreadWritableDecoder{
+
+  private Spread createSpread( final int offset ){
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 10 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "str" , new StringObj( "a-" + ( offset + i ) ) );
+      if( i != 5 ){
+        dataContainer.put( "num" , new LongObj( offset + i ) );
+      }
+      Map<String,Object> map = new HashMap<String,Object>();
+      map.put( "key" , new StringObj( "v" ) );
+      dataContainer.put( "map" , map );
+      spread.addRow( dataContainer );
+    }
+    return spread;
+  }
+
+  private StructTypeInfo createTypeInfo(){
+    return (StructTypeInfo)TypeInfoFactory.getStructTypeInfo(
+        Arrays.asList( "str" , "num" , "map" ) ,
+        Arrays.asList(
+          TypeInfoFactory.stringTypeInfo ,
+          TypeInfoFactory.longTypeInfo ,
+          TypeInfoFactory.getMapTypeInfo( TypeInfoFactory.stringTypeInfo , TypeInfoFactory.stringTypeInfo ) ) );
+  }
+
+  @Test
+  public void T_decode_1() throws IOException{
+    SpreadWritableDecoder decoder = new SpreadWritableDecoder( createTypeInfo() );
+    Spread spread = createSpread( 0 );
+    decoder.decode( spread , new AllExpressionIndex( spread.size() ) , 1 );
+    assertEquals( 10 , decoder.getRowCount() );
+    assertEquals( 3 , decoder.getColumnSize() );
+    for( int i = 0 ; i < 10 ; i++ ){
+      assertEquals( new Text( "a-" + i ) , decoder.get( 0 , i ) );
+      if( i == 5 ){
+        assertNull( decoder.get( 1 , i ) );
+      }
+      else{
+        assertEquals( new LongWritable( i ) , decoder.get( 1 , i ) );
+      }
+      ColumnAndIndex cursor = (ColumnAndIndex)decoder.get( 2 , i );
+      assertEquals( i , cursor.index );
+      assertEquals( 1 , cursor.columnIndex );
+    }
+  }
+
+  @Test
+  public void T_decode_2() throws IOException{
+    SpreadWritableDecoder decoder = new SpreadWritableDecoder( createTypeInfo() );
+    Spread spread = createSpread( 0 );
+    decoder.decode( spread , new AllExpressionIndex( spread.size() ) , 1 );
+    Object first = decoder.get( 0 , 3 );
+
+    spread = createSpread( 100 );
+    decoder.decode( spread , new AllExpressionIndex( spread.size() ) , 2 );
+    assertSame( first , decoder.get( 0 , 3 ) );
+    assertEquals( new Text( "a-103" ) , decoder.get( 0 , 3 ) );
+    assertEquals( new LongWritable( 106 ) , decoder.get( 1 , 6 ) );
+  }
+
+  @Test
+  public void T_decodedRow_1() throws IOException{
+    SpreadWritableDecoder decoder = new SpreadWritableDecoder( createTypeInfo() );
+    Spread spread = createSpread( 0 );
+    decoder.decode( spread , new AllExpressionIndex( spread.size() ) , 1 );
+    DecodedRow row = new DecodedRow();
+    row.decoder = decoder;
+    row.row = 2;
+    assertEquals( 3 , row.size() );
+    assertEquals( new Text( "a-2" ) , row.get( 0 ) );
+    assertEquals( new LongWritable( 2 ) , row.get( 1 ) );
+  }
+
+  @Test
+  public void T_decodedRow_2() throws IOException{
+    SpreadWritableDecoder decoder = new SpreadWritableDecoder( createTypeInfo() );
+    Spread spread = createSpread( 0 );
+    decoder.decode( spread , new AllExpressionIndex( spread.size() ) , 1 );
+    DecodedRow row = new DecodedRow();
+    row.decoder = decoder;
+    row.row = 2;
+    assertEquals( new Text( "a-2" ) , row.get( "str" ) );
+    assertEquals( new LongWritable( 2 ) , row.get( "num" ) );
+    assertNull( row.get( "unknown" ) );
+  }
+
+  @Test
+  public void T_decodedRow_3() throws IOException{
+    SpreadWritableDecoder decoder = new SpreadWritableDecoder( createTypeInfo() );
+    Spread spread = createSpread( 0 );
+    decoder.decode( spread , new AllExpressionIndex( spread.size() ) , 1 );
+    DecodedRow row = new DecodedRow();
+    row.decoder = decoder;
+    row.row = 2;
+
+    StructTypeInfo serdeTypeInfo = (StructTypeInfo)TypeInfoFactory.getStructTypeInfo(
+        Arrays.asList( "num" , "str" ) ,
+        Arrays.asList( TypeInfoFactory.longTypeInfo , TypeInfoFactory.stringTypeInfo ) );
+    YosegiStructObjectInspector inspector = new YosegiStructObjectInspector( serdeTypeInfo , true );
+    StructField numField = inspector.getStructFieldRef( "num" );
+    StructField strField = inspector.getStructFieldRef( "str" );
+    assertEquals( new LongWritable( 2 ) , inspector.getStructFieldData( row , numField ) );
+    assertEquals( new Text( "a-2" ) , inspector.getStructFieldData( row , strField ) );
+    assertEquals(
+        Arrays.asList( new LongWritable( 2 ) , new Text( "a-2" ) ) ,
+        inspector.getStructFieldsDataAsList( row ) );
+  }
+
+}
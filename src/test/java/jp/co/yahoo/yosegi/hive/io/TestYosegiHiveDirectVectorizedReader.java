@@ -0,0 +1,439 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.yahoo.yosegi.hive.io;
+
+import java.io.*;
+
+import java.time.Duration;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.config.Configuration;
+import jp.co.yahoo.yosegi.message.objects.*;
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.column.filter.NumberRangeFilter;
+import jp.co.yahoo.yosegi.spread.expression.ExecuterNode;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.OrExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.StringExtractNode;
+import jp.co.yahoo.yosegi.writer.YosegiWriter;
+import jp.co.yahoo.yosegi.hive.io.vector.IColumnVectorAssignor;
+import jp.co.yahoo.yosegi.hive.io.vector.LongColumnVectorAssignor;
+import jp.co.yahoo.yosegi.hive.io.vector.LongPrimitiveSetter;
+
+import org.apache.hadoop.io.NullWritable;
+import org.apache.hadoop.hive.ql.exec.vector.*;
+
+public class TestYosegiHiveDirectVectorizedReader{
+
+  private static final int COLUMN_SIZE = 8;
+
+  private static class TestSetting implements IVectorizedReaderSetting{
+
+    private final IColumnVectorAssignor[] assignors;
+    private final int decodeParallelism;
+    private IExpressionNode node;
+    private boolean selectedMode;
+    private int prefetchSpreadSize;
+
+    public TestSetting( final IColumnVectorAssignor[] assignors , final int decodeParallelism ){
+      this.assignors = assignors;
+      this.decodeParallelism = decodeParallelism;
+    }
+
+    @Override
+    public boolean isVectorMode(){
+      return true;
+    }
+
+    @Override
+    public boolean isDisableSkipBlock(){
+      return true;
+    }
+
+    @Override
+    public boolean isDisableFilterPushdown(){
+      return node == null;
+    }
+
+    @Override
+    public Configuration getReaderConfig(){
+      return new Configuration();
+    }
+
+    @Override
+    public IExpressionNode getExpressionNode(){
+      if( node == null ){
+        return new OrExpressionNode();
+      }
+      return node;
+    }
+
+    @Override
+    public VectorizedRowBatch createVectorizedRowBatch(){
+      VectorizedRowBatch batch = new VectorizedRowBatch( COLUMN_SIZE );
+      for( int i = 0 ; i < COLUMN_SIZE ; i++ ){
+        batch.cols[i] = new LongColumnVector( VectorizedRowBatch.DEFAULT_SIZE );
+      }
+      return batch;
+    }
+
+    @Override
+    public void setPartitionValues( final VectorizedRowBatch outputBatch ){}
+
+    @Override
+    public IColumnVectorAssignor[] getAssignors(){
+      return assignors;
+    }
+
+    @Override
+    public int[] getNeedColumnIds(){
+      int[] result = new int[COLUMN_SIZE];
+      for( int i = 0 ; i < COLUMN_SIZE ; i++ ){
+        result[i] = i;
+      }
+      return result;
+    }
+
+    @Override
+    public String[] getColumnNames(){
+      String[] result = new String[COLUMN_SIZE];
+      for( int i = 0 ; i < COLUMN_SIZE ; i++ ){
+        result[i] = "c" + i;
+      }
+      return result;
+    }
+
+    @Override
+    public boolean isSelectedMode(){
+      return selectedMode;
+    }
+
+    @Override
+    public int getPrefetchSpreadSize(){
+      return prefetchSpreadSize;
+    }
+
+    @Override
+    public int getDecodeParallelism(){
+      return decodeParallelism;
+    }
+
+  }
+
+  private String createFile( final String name ) throws IOException{
+    return createFile( name , 3000 );
+  }
+
+  /**
+   * Write 3000 rows in spreads of spreadSize rows.
+   * Column cN of row i is i * ( N + 1 ), and is null if ( i + N ) % 7 is 0.
+   */
+  private String createFile( final String name , final int spreadSize ) throws IOException{
+    String dirName = this.getClass().getClassLoader().getResource( "io/out" ).getPath();
+    String outPath = String.format( "%s/%s.yosegi" , dirName , name );
+    OutputStream out = new FileOutputStream( outPath );
+    YosegiWriter writer = new YosegiWriter( out , new Configuration() );
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 3000 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      for( int c = 0 ; c < COLUMN_SIZE ; c++ ){
+        if( ( i + c ) % 7 != 0 ){
+          dataContainer.put( "c" + c , new LongObj( (long)i * ( c + 1 ) ) );
+        }
+      }
+      spread.addRow( dataContainer );
+      if( spread.size() == spreadSize ){
+        writer.append( spread );
+        spread = new Spread();
+      }
+    }
+    if( spread.size() != 0 ){
+      writer.append( spread );
+    }
+    writer.close();
+    return outPath;
+  }
+
+  private IExpressionNode createRangeNode( final long min , final long max ){
+    return new ExecuterNode(
+        new StringExtractNode( "c0" ) ,
+        new NumberRangeFilter( false , new LongObj( min ) , true , new LongObj( max ) , true ) );
+  }
+
+  private IColumnVectorAssignor[] createAssignors(){
+    IColumnVectorAssignor[] assignors = new IColumnVectorAssignor[COLUMN_SIZE];
+    for( int i = 0 ; i < COLUMN_SIZE ; i++ ){
+      assignors[i] = new LongColumnVectorAssignor( LongPrimitiveSetter.getInstance() );
+    }
+    return assignors;
+  }
+
+  private YosegiHiveDirectVectorizedReader createReader( final String path , final IVectorizedReaderSetting setting ) throws IOException{
+    File inFile = new File( path );
+    return new YosegiHiveDirectVectorizedReader(
+        new FileInputStream( inFile ) , inFile.length() , 0 , inFile.length() , setting , new DummyJobReporter() );
+  }
+
+  private List<List<Long>> readAll( final String path , final int decodeParallelism ) throws IOException{
+    return readAll( path , new TestSetting( createAssignors() , decodeParallelism ) );
+  }
+
+  private List<List<Long>> readAll( final String path , final TestSetting setting ) throws IOException{
+    YosegiHiveDirectVectorizedReader reader = createReader( path , setting );
+    List<List<Long>> result = new ArrayList<List<Long>>();
+    VectorizedRowBatch batch = reader.createValue();
+    while( reader.next( NullWritable.get() , batch ) ){
+      for( int i = 0 ; i < batch.size ; i++ ){
+        int r = batch.selectedInUse ? batch.selected[i] : i;
+        List<Long> row = new ArrayList<Long>();
+        for( int c = 0 ; c < COLUMN_SIZE ; c++ ){
+          LongColumnVector vector = (LongColumnVector)batch.cols[c];
+          int index = vector.isRepeating ? 0 : r;
+          if( ! vector.noNulls && vector.isNull[index] ){
+            row.add( null );
+          }
+          else{
+            row.add( vector.vector[index] );
+          }
+        }
+        result.add( row );
+      }
+    }
+    reader.close();
+    return result;
+  }
+
+  @Test
+  public void T_decodeParallelism_1() throws IOException{
+    String path = createFile( "TestYosegiHiveDirectVectorizedReader_T_decodeParallelism_1" );
+    List<List<Long>> sequential = readAll( path , 1 );
+    List<List<Long>> parallel = readAll( path , 4 );
+    assertEquals( 3000 , sequential.size() );
+    assertEquals( sequential , parallel );
+    assertEquals( null , sequential.get( 0 ).get( 0 ) );
+    assertEquals( Long.valueOf( 2 * 3 ) , sequential.get( 2 ).get( 2 ) );
+  }
+
+  @Test
+  public void T_decodeParallelism_2() throws IOException{
+    String path = createFile( "TestYosegiHiveDirectVectorizedReader_T_decodeParallelism_2" );
+    IColumnVectorAssignor[] assignors = createAssignors();
+    assignors[5] = new IColumnVectorAssignor(){
+      @Override
+      public void setColumn( final int spreadSize , final IColumn column ){
+        throw new IllegalStateException( "broken column" );
+      }
+
+      @Override
+      public void setColumnVector( final ColumnVector vector , final IExpressionIndex indexList , final int start , final int length ){}
+    };
+    YosegiHiveDirectVectorizedReader reader = createReader( path , new TestSetting( assignors , 4 ) );
+    VectorizedRowBatch batch = reader.createValue();
+    IOException ex = assertThrows( IOException.class , () -> reader.next( NullWritable.get() , batch ) );
+    assertTrue( ex.getCause() instanceof IllegalStateException );
+    reader.close();
+  }
+
+  @Test
+  public void T_filter_1() throws IOException{
+    String path = createFile( "TestYosegiHiveDirectVectorizedReader_T_filter_1" , 1000 );
+    final int[] bindCount = new int[1];
+    final int[] decodedRows = new int[1];
+    IColumnVectorAssignor[] assignors = createAssignors();
+    final IColumnVectorAssignor c5Assignor = assignors[5];
+    assignors[5] = new IColumnVectorAssignor(){
+      @Override
+      public void setColumn( final int spreadSize , final IColumn column ) throws IOException{
+        bindCount[0]++;
+        c5Assignor.setColumn( spreadSize , column );
+      }
+
+      @Override
+      public void setColumnVector( final ColumnVector vector , final IExpressionIndex indexList , final int start , final int length ) throws IOException{
+        decodedRows[0] += length;
+        c5Assignor.setColumnVector( vector , indexList , start , length );
+      }
+    };
+    TestSetting setting = new TestSetting( assignors , 1 );
+    // Only the second spread has rows where c0 is in the range.
+    setting.node = createRangeNode( 1000 , 1999 );
+    List<List<Long>> rows = readAll( path , setting );
+
+    int expectedSize = 0;
+    for( int i = 1000 ; i < 2000 ; i++ ){
+      if( i % 7 != 0 ){
+        expectedSize++;
+      }
+    }
+    assertEquals( expectedSize , rows.size() );
+    // The non-predicate column is bound for the surviving spread only,
+    // and only its selected rows are decoded.
+    assertEquals( 1 , bindCount[0] );
+    assertEquals( expectedSize , decodedRows[0] );
+    assertEquals( Long.valueOf( 1000 * 6 ) , rows.get( 0 ).get( 5 ) );
+  }
+
+  @Test
+  public void T_selectedMode_1() throws IOException{
+    // Two spreads of 1500 rows. The selected rows of each spread span two batches.
+    String path = createFile( "TestYosegiHiveDirectVectorizedReader_T_selectedMode_1" , 1500 );
+    TestSetting setting = new TestSetting( createAssignors() , 1 );
+    setting.node = createRangeNode( 100 , 2900 );
+    setting.selectedMode = true;
+
+    List<Long> expected = new ArrayList<Long>();
+    for( long i = 100 ; i <= 2900 ; i++ ){
+      if( i % 7 != 0 ){
+        expected.add( i );
+      }
+    }
+
+    YosegiHiveDirectVectorizedReader reader = createReader( path , setting );
+    VectorizedRowBatch batch = reader.createValue();
+    List<Long> actual = new ArrayList<Long>();
+    int batchCount = 0;
+    while( reader.next( NullWritable.get() , batch ) ){
+      batchCount++;
+      // The null rows of c0 are not selected, so every batch has gaps.
+      assertTrue( batch.selectedInUse );
+      LongColumnVector c0 = (LongColumnVector)batch.cols[0];
+      LongColumnVector c1 = (LongColumnVector)batch.cols[1];
+      for( int i = 0 ; i < batch.size ; i++ ){
+        int r = batch.selected[i];
+        if( 0 < i ){
+          assertTrue( batch.selected[i - 1] < r );
+        }
+        assertTrue( r < batch.getMaxSize() );
+        assertFalse( c0.isNull[r] );
+        long row = c0.vector[r];
+        actual.add( row );
+        if( ( row + 1 ) % 7 == 0 ){
+          assertTrue( c1.isNull[r] );
+        }
+        else{
+          assertEquals( row * 2 , c1.vector[r] );
+        }
+      }
+      // The first selected row is the first row of the assigned range.
+      assertEquals( 0 , batch.selected[0] );
+    }
+    reader.close();
+    assertEquals( 4 , batchCount );
+    assertEquals( expected , actual );
+
+    TestSetting gatheredSetting = new TestSetting( createAssignors() , 1 );
+    gatheredSetting.node = createRangeNode( 100 , 2900 );
+    assertEquals( readAll( path , gatheredSetting ) , readAll( path , setting ) );
+  }
+
+  @Test
+  public void T_selectedMode_2() throws IOException{
+    // c3 is not null from row 1503 to 1506, so all rows of the range are selected.
+    String path = createFile( "TestYosegiHiveDirectVectorizedReader_T_selectedMode_2" , 1500 );
+    TestSetting setting = new TestSetting( createAssignors() , 1 );
+    setting.node = new ExecuterNode(
+        new StringExtractNode( "c3" ) ,
+        new NumberRangeFilter( false , new LongObj( 1503 * 4 ) , true , new LongObj( 1506 * 4 ) , true ) );
+    setting.selectedMode = true;
+
+    YosegiHiveDirectVectorizedReader reader = createReader( path , setting );
+    VectorizedRowBatch batch = reader.createValue();
+    assertTrue( reader.next( NullWritable.get() , batch ) );
+    assertFalse( batch.selectedInUse );
+    assertEquals( 4 , batch.size );
+    LongColumnVector c3 = (LongColumnVector)batch.cols[3];
+    for( int i = 0 ; i < 4 ; i++ ){
+      assertEquals( ( 1503 + i ) * 4 , c3.vector[i] );
+    }
+    assertFalse( reader.next( NullWritable.get() , batch ) );
+    reader.close();
+  }
+
+  @Test
+  public void T_prefetch_1() throws IOException{
+    String path = createFile( "TestYosegiHiveDirectVectorizedReader_T_prefetch_1" , 500 );
+    TestSetting syncSetting = new TestSetting( createAssignors() , 1 );
+    syncSetting.node = createRangeNode( 100 , 2900 );
+    TestSetting prefetchSetting = new TestSetting( createAssignors() , 1 );
+    prefetchSetting.node = createRangeNode( 100 , 2900 );
+    prefetchSetting.prefetchSpreadSize = 2;
+
+    List<List<Long>> expected = readAll( path , syncSetting );
+    assertFalse( expected.isEmpty() );
+    assertEquals( expected , readAll( path , prefetchSetting ) );
+
+    YosegiHiveDirectVectorizedReader reader = createReader( path , prefetchSetting );
+    VectorizedRowBatch batch = reader.createValue();
+    long lastPos = reader.getPos();
+    float lastProgress = reader.getProgress();
+    while( reader.next( NullWritable.get() , batch ) ){
+      assertTrue( lastPos <= reader.getPos() );
+      assertTrue( lastProgress <= reader.getProgress() );
+      lastPos = reader.getPos();
+      lastProgress = reader.getProgress();
+    }
+    assertTrue( 0 < lastPos );
+    assertEquals( 1.0f , lastProgress );
+    reader.close();
+  }
+
+  @Test
+  public void T_prefetch_2() throws IOException{
+    String path = createFile( "TestYosegiHiveDirectVectorizedReader_T_prefetch_2" , 100 );
+    TestSetting setting = new TestSetting( createAssignors() , 1 );
+    setting.prefetchSpreadSize = 1;
+    YosegiHiveDirectVectorizedReader reader = createReader( path , setting );
+    VectorizedRowBatch batch = reader.createValue();
+    assertTrue( reader.next( NullWritable.get() , batch ) );
+    // The prefetch thread is still reading the next spreads.
+    assertTimeoutPreemptively( Duration.ofSeconds( 10 ) , () -> reader.close() );
+  }
+
+  @Test
+  public void T_prefetch_3() throws IOException{
+    String path = createFile( "TestYosegiHiveDirectVectorizedReader_T_prefetch_3" , 500 );
+    IColumnVectorAssignor[] assignors = createAssignors();
+    assignors[2] = new IColumnVectorAssignor(){
+      @Override
+      public void setColumn( final int spreadSize , final IColumn column ){}
+
+      @Override
+      public void setColumnVector( final ColumnVector vector , final IExpressionIndex indexList , final int start , final int length ) throws IOException{
+        throw new IOException( "broken vector" );
+      }
+    };
+    TestSetting setting = new TestSetting( assignors , 1 );
+    setting.prefetchSpreadSize = 2;
+    YosegiHiveDirectVectorizedReader reader = createReader( path , setting );
+    VectorizedRowBatch batch = reader.createValue();
+    IOException ex = assertThrows( IOException.class , () -> reader.next( NullWritable.get() , batch ) );
+    assertEquals( "broken vector" , ex.getMessage() );
+    assertTimeoutPreemptively( Duration.ofSeconds( 10 ) , () -> reader.close() );
+  }
+
+}
@@ -29,6 +29,8 @@ import org.junit.jupiter.params.provider.Arguments;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import org.apache.hadoop.hive.ql.exec.vector.VectorizedSupport;
+
 import jp.co.yahoo.yosegi.*;
 
 public class TestYosegiHiveLineInputFormat{
@@ -38,4 +40,11 @@ public class TestYosegiHiveLineInputFormat{
     new YosegiHiveLineInputFormat();
   }
 
+  @Test
+  public void T_getSupportedFeatures_1() throws IOException{
+    VectorizedSupport.Support[] features = new YosegiHiveLineInputFormat().getSupportedFeatures();
+    assertEquals( 1 , features.length );
+    assertEquals( VectorizedSupport.Support.DECIMAL_64 , features[0] );
+  }
+
 }
@@ -20,6 +20,8 @@ package jp.co.yahoo.yosegi.hive.io.vector;
 import java.io.*;
 
 import java.util.Arrays;
+import java.util.Map;
+import java.util.HashMap;
 
 import java.util.stream.Stream;
 
@@ -31,6 +33,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import jp.co.yahoo.yosegi.config.Configuration;
+import jp.co.yahoo.yosegi.reader.YosegiReader;
+import jp.co.yahoo.yosegi.writer.YosegiRecordWriter;
+import jp.co.yahoo.yosegi.spread.Spread;
 import jp.co.yahoo.yosegi.spread.column.ColumnType;
 import jp.co.yahoo.yosegi.spread.column.IColumn;
 import jp.co.yahoo.yosegi.spread.column.PrimitiveColumn;
@@ -98,4 +104,108 @@ public class TestBytesColumnVectorAssignor{
     }
   }
 
+  @Test
+  public void T_set_3() throws IOException{
+    PrimitiveObject[] dic = new PrimitiveObject[]{
+        new StringObj( "jp" ) , new StringObj( "us" ) , new StringObj( "uk" ) };
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "t" );
+    for( int i = 0 ; i < 2000 ; i++ ){
+      column.add( ColumnType.STRING , dic[ i % 3 ] , i );
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    BytesColumnVector vector = new BytesColumnVector( 1024 );
+    BytesColumnVectorAssignor assignor = new BytesColumnVectorAssignor();
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 1024 );
+    assertFalse( vector.isRepeating );
+    for( int n = 0 ; n < 1024 ; n++ ){
+      String str = new String( vector.vector[n] , vector.start[n] , vector.length[n] );
+      assertEquals( dic[ n % 3 ].getString() , str );
+      assertSame( vector.vector[0] , vector.vector[n] );
+    }
+    // StringObj is not IBytesLink, so each shared object is one dictionary entry.
+    assertEquals( dic.length , assignor.getDictionarySize() );
+  }
+
+  @Test
+  public void T_set_4() throws IOException{
+    PrimitiveObject obj = new StringObj( "jp" );
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "t" );
+    for( int i = 0 ; i < 1024 ; i++ ){
+      column.add( ColumnType.STRING , obj , i );
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    BytesColumnVector vector = new BytesColumnVector( 1024 );
+    IColumnVectorAssignor assignor = new BytesColumnVectorAssignor();
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 1024 );
+    assertTrue( vector.isRepeating );
+    assertEquals( "jp" , new String( vector.vector[0] , vector.start[0] , vector.length[0] ) );
+  }
+
+  @Test
+  public void T_set_5() throws IOException{
+    String[] dic = new String[]{ "jp" , "us" , "uk" };
+    String dirName = this.getClass().getClassLoader().getResource( "io/out" ).getPath();
+    String outPath = String.format( "%s/TestBytesColumnVectorAssignor_T_set_5.yosegi" , dirName );
+    OutputStream out = new FileOutputStream( outPath );
+    YosegiRecordWriter writer = new YosegiRecordWriter( out , new Configuration() );
+    for( int i = 0 ; i < 3000 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "str" , new StringObj( dic[ i % 3 ] ) );
+      writer.addRow( dataContainer );
+    }
+    writer.close();
+
+    File inFile = new File( outPath );
+    YosegiReader reader = new YosegiReader();
+    reader.setNewStream( new FileInputStream( inFile ) , inFile.length() , new Configuration() , 0 , inFile.length() );
+    assertTrue( reader.hasNext() );
+    Spread spread = reader.next();
+    IExpressionIndex index = new AllExpressionIndex( spread.size() );
+
+    BytesColumnVector vector = new BytesColumnVector( 1024 );
+    BytesColumnVectorAssignor assignor = new BytesColumnVectorAssignor();
+    assignor.setColumn( spread.size() , spread.getColumn( "str" ) );
+    for( int i = 0 ; i < 2 ; i++ ){
+      int start = i * 1024;
+      assignor.setColumnVector( vector , index , start , 1024 );
+      for( int n = 0 ; n < 1024 ; n++ ){
+        String str = new String( vector.vector[n] , vector.start[n] , vector.length[n] );
+        assertEquals( dic[ ( n + start ) % 3 ] , str );
+      }
+      // Rows with the same value share the bytes, either of the column or of the dictionary.
+      for( int n = 3 ; n < 1024 ; n++ ){
+        assertSame( vector.vector[n - 3] , vector.vector[n] );
+        assertEquals( vector.start[n - 3] , vector.start[n] );
+      }
+    }
+    reader.close();
+  }
+
+  @Test
+  public void T_set_6() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "t" );
+    for( int i = 0 ; i < 2048 ; i++ ){
+      column.add( ColumnType.STRING , new StringObj( Integer.toString( i ) ) , i );
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    BytesColumnVector vector = new BytesColumnVector( 1024 );
+    BytesColumnVectorAssignor assignor = new BytesColumnVectorAssignor();
+    assignor.setColumn( column.size() , column );
+    for( int i = 0 ; i < 2 ; i++ ){
+      int start = i * 1024;
+      assignor.setColumnVector( vector , index , start , 1024 );
+      for( int n = 0 ; n < 1024 ; n++ ){
+        String str = new String( vector.vector[n] , vector.start[n] , vector.length[n] );
+        assertEquals( Integer.toString( n + start ) , str );
+      }
+    }
+    // Objects that are not shared stop the dictionary.
+    assertTrue( assignor.getDictionarySize() <= 1024 );
+  }
+
 }
@@ -85,15 +85,20 @@ public class TestColumnVectorAssignorFactory{
   public static Stream<Arguments> data4() {
     return Stream.of(
       arguments( TypeInfoFactory.charTypeInfo ),
-      arguments( TypeInfoFactory.dateTypeInfo ),
-      arguments( TypeInfoFactory.decimalTypeInfo ),
-      arguments( TypeInfoFactory.timestampTypeInfo ),
       arguments( TypeInfoFactory.unknownTypeInfo ),
       arguments( TypeInfoFactory.varcharTypeInfo ),
       arguments( TypeInfoFactory.voidTypeInfo ),
-      arguments( createStruct() ),
-      arguments( createArray() ),
-      arguments( createUnion() )
+      arguments( createUnion() ),
+      arguments( TypeInfoFactory.getMapTypeInfo(
+          TypeInfoFactory.intTypeInfo , TypeInfoFactory.intTypeInfo ) )
+    );
+  }
+
+  public static Stream<Arguments> data5() {
+    return Stream.of(
+      arguments( TypeInfoFactory.dateTypeInfo , LongColumnVectorAssignor.class.getName() ),
+      arguments( TypeInfoFactory.timestampTypeInfo , TimestampColumnVectorAssignor.class.getName() ),
+      arguments( TypeInfoFactory.decimalTypeInfo , DecimalColumnVectorAssignor.class.getName() )
     );
   }
 
@@ -118,6 +123,30 @@ public class TestColumnVectorAssignorFactory{
     assertEquals( assignor.getClass().getName() , resultClassName );
   }
 
+  @ParameterizedTest
+  @MethodSource( "data5" )
+  public void T_datetime_and_decimal_1( final TypeInfo typeInfo , final String resultClassName ){
+    IColumnVectorAssignor assignor = ColumnVectorAssignorFactory.create( typeInfo );
+    assertEquals( assignor.getClass().getName() , resultClassName );
+  }
+
+  public static Stream<Arguments> data6() {
+    return Stream.of(
+      arguments( createStruct() , StructColumnVectorAssignor.class.getName() ),
+      arguments( createArray() , ListColumnVectorAssignor.class.getName() ),
+      arguments( TypeInfoFactory.getMapTypeInfo(
+          TypeInfoFactory.stringTypeInfo , TypeInfoFactory.intTypeInfo ) ,
+          MapColumnVectorAssignor.class.getName() )
+    );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "data6" )
+  public void T_nested_1( final TypeInfo typeInfo , final String resultClassName ){
+    IColumnVectorAssignor assignor = ColumnVectorAssignorFactory.create( typeInfo );
+    assertEquals( assignor.getClass().getName() , resultClassName );
+  }
+
   @ParameterizedTest
   @MethodSource( "data4" )
   public void T_not_support_1( final TypeInfo typeInfo ){
@@ -0,0 +1,90 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.apache.hadoop.hive.ql.exec.vector.*;
+
+public class TestColumnVectorNullUtil{
+
+  @Test
+  public void T_setAllNull_1(){
+    LongColumnVector vector = new LongColumnVector( 1024 );
+    ColumnVectorNullUtil.setAllNull( vector , 100 );
+    assertFalse( vector.noNulls );
+    assertTrue( vector.isRepeating );
+    for( int i = 0 ; i < 100 ; i++ ){
+      assertTrue( vector.isNull[i] );
+    }
+    assertFalse( vector.isNull[100] );
+  }
+
+  @Test
+  public void T_updateNoNulls_1(){
+    LongColumnVector vector = new LongColumnVector( 1024 );
+    vector.noNulls = false;
+    vector.isNull[10] = true;
+    ColumnVectorNullUtil.updateNoNulls( vector , 10 );
+    assertTrue( vector.noNulls );
+
+    vector.noNulls = false;
+    ColumnVectorNullUtil.updateNoNulls( vector , 11 );
+    assertFalse( vector.noNulls );
+  }
+
+  @Test
+  public void T_setRepeating_1(){
+    LongColumnVector vector = new LongColumnVector( 1024 );
+    IRowValueComparator<LongColumnVector> comparator =
+        ( v , row1 , row2 ) -> v.vector[row1] == v.vector[row2];
+    for( int i = 0 ; i < 10 ; i++ ){
+      vector.vector[i] = 5;
+    }
+    vector.vector[10] = 6;
+    ColumnVectorNullUtil.setRepeating( vector , 10 , comparator );
+    assertTrue( vector.isRepeating );
+    ColumnVectorNullUtil.setRepeating( vector , 11 , comparator );
+    assertFalse( vector.isRepeating );
+    ColumnVectorNullUtil.setRepeating( vector , 0 , comparator );
+    assertFalse( vector.isRepeating );
+  }
+
+  @Test
+  public void T_setRepeating_2(){
+    LongColumnVector vector = new LongColumnVector( 1024 );
+    IRowValueComparator<LongColumnVector> comparator =
+        ( v , row1 , row2 ) -> v.vector[row1] == v.vector[row2];
+    vector.noNulls = false;
+    vector.isNull[0] = true;
+    vector.isNull[1] = true;
+    vector.vector[0] = 1;
+    vector.vector[1] = 2;
+    ColumnVectorNullUtil.setRepeating( vector , 2 , comparator );
+    assertTrue( vector.isRepeating );
+
+    vector.isNull[1] = false;
+    vector.vector[1] = 1;
+    ColumnVectorNullUtil.setRepeating( vector , 2 , comparator );
+    assertFalse( vector.isRepeating );
+  }
+
+}
@@ -0,0 +1,60 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import java.io.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.column.PrimitiveColumn;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestDatePrimitiveSetter{
+
+  @Test
+  public void T_set_1() throws IOException{
+    long day = 24L * 60L * 60L * 1000L;
+    IColumn column = new PrimitiveColumn( ColumnType.LONG , "t" );
+    column.add( ColumnType.LONG , new LongObj( 0L ) , 0 );
+    column.add( ColumnType.LONG , new LongObj( day * 17897 ) , 1 );
+    column.add( ColumnType.LONG , new LongObj( -day ) , 2 );
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    INumberPrimitiveSetter setter = DatePrimitiveSetter.getInstance();
+    PrimitiveObject[] pArray = column.getPrimitiveObjectArray( index , 0 , 3 );
+    LongColumnVector vector = new LongColumnVector( 1024 );
+    for( int n = 0 ; n < 3 ; n++ ){
+      setter.set( pArray , vector , n );
+    }
+    assertEquals( vector.vector[0] , 0L );
+    assertEquals( vector.vector[1] , 17897L );
+    assertEquals( vector.vector[2] , -1L );
+    assertFalse( setter.isDirectColumnType( ColumnType.LONG ) );
+  }
+
+}
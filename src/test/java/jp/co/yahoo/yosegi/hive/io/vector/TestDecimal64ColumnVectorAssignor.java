@@ -0,0 +1,91 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import java.io.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.column.PrimitiveColumn;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.common.type.DataTypePhysicalVariation;
+import org.apache.hadoop.hive.ql.exec.vector.*;
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestDecimal64ColumnVectorAssignor{
+
+  @Test
+  public void T_set_1() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "t" );
+    column.add( ColumnType.STRING , new StringObj( "10.25" ) , 0 );
+    column.add( ColumnType.STRING , new StringObj( "abc" ) , 1 );
+    column.add( ColumnType.STRING , new StringObj( "-3.5" ) , 3 );
+    column.add( ColumnType.STRING , new StringObj( "123456789.5" ) , 4 );
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    Decimal64ColumnVector vector = new Decimal64ColumnVector( 1024 , 10 , 2 );
+    IColumnVectorAssignor assignor = new Decimal64ColumnVectorAssignor(
+        TypeInfoFactory.getDecimalTypeInfo( 10 , 2 ) );
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 6 );
+    assertEquals( 1025L , vector.vector[0] );
+    assertTrue( vector.isNull[1] );
+    assertTrue( vector.isNull[2] );
+    assertEquals( -350L , vector.vector[3] );
+    assertTrue( vector.isNull[4] );
+    assertTrue( vector.isNull[5] );
+  }
+
+  @Test
+  public void T_set_2() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.INTEGER , "t" );
+    for( int i = 0 ; i < 100 ; i++ ){
+      column.add( ColumnType.INTEGER , new IntegerObj( i ) , i );
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    Decimal64ColumnVector vector = new Decimal64ColumnVector( 1024 , 10 , 2 );
+    IColumnVectorAssignor assignor = new Decimal64ColumnVectorAssignor(
+        TypeInfoFactory.getDecimalTypeInfo( 10 , 2 ) );
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 100 );
+    for( int n = 0 ; n < 100 ; n++ ){
+      assertEquals( n * 100L , vector.vector[n] );
+    }
+  }
+
+  @Test
+  public void T_create_1(){
+    IColumnVectorAssignor assignor = ColumnVectorAssignorFactory.create(
+        TypeInfoFactory.getDecimalTypeInfo( 10 , 2 ) , DataTypePhysicalVariation.DECIMAL_64 );
+    assertTrue( assignor instanceof Decimal64ColumnVectorAssignor );
+    assignor = ColumnVectorAssignorFactory.create(
+        TypeInfoFactory.getDecimalTypeInfo( 10 , 2 ) , DataTypePhysicalVariation.NONE );
+    assertTrue( assignor instanceof DecimalColumnVectorAssignor );
+  }
+
+}
@@ -0,0 +1,76 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import java.io.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.column.PrimitiveColumn;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.common.type.HiveDecimal;
+import org.apache.hadoop.hive.ql.exec.vector.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestDecimalColumnVectorAssignor{
+
+  @Test
+  public void T_set_1() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "t" );
+    column.add( ColumnType.STRING , new StringObj( "10.25" ) , 0 );
+    column.add( ColumnType.STRING , new StringObj( "abc" ) , 1 );
+    column.add( ColumnType.STRING , new StringObj( "-3.5" ) , 3 );
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    DecimalColumnVector vector = new DecimalColumnVector( 1024 , 10 , 2 );
+    IColumnVectorAssignor assignor = new DecimalColumnVectorAssignor();
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 5 );
+    assertEquals( HiveDecimal.create( "10.25" ) , vector.vector[0].getHiveDecimal() );
+    assertTrue( vector.isNull[1] );
+    assertTrue( vector.isNull[2] );
+    assertEquals( HiveDecimal.create( "-3.5" ) , vector.vector[3].getHiveDecimal() );
+    assertTrue( vector.isNull[4] );
+  }
+
+  @Test
+  public void T_set_2() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.LONG , "t" );
+    for( int i = 0 ; i < 100 ; i++ ){
+      column.add( ColumnType.LONG , new LongObj( i ) , i );
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    DecimalColumnVector vector = new DecimalColumnVector( 1024 , 10 , 0 );
+    IColumnVectorAssignor assignor = new DecimalColumnVectorAssignor();
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 100 );
+    for( int n = 0 ; n < 100 ; n++ ){
+      assertEquals( HiveDecimal.create( n ) , vector.vector[n].getHiveDecimal() );
+    }
+  }
+
+}
@@ -69,4 +69,53 @@ public class TestDoubleColumnVectorAssignor{
     }
   }
 
+  @Test
+  public void T_set_2() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.FLOAT , "t" );
+    for( int i = 0 ; i < 1024 ; i++ ){
+      if( ( i % 2 ) == 0 ){
+        column.add( ColumnType.FLOAT , new FloatObj( (float)i ) , i );
+      }
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    DoubleColumnVector vector = new DoubleColumnVector( 1024 );
+    IColumnVectorAssignor assignor = new DoubleColumnVectorAssignor( FloatPrimitiveSetter.getInstance() );
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 1024 );
+    assertFalse( vector.noNulls );
+    assertFalse( vector.isRepeating );
+    for( int n = 0 ; n < 1024 ; n++ ){
+      if( ( n % 2 ) == 0 ){
+        assertFalse( vector.isNull[n] );
+        assertEquals( vector.vector[n] , (double)n );
+      }
+      else{
+        assertTrue( vector.isNull[n] );
+      }
+    }
+  }
+
+  @Test
+  public void T_set_3() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.DOUBLE , "t" );
+    for( int i = 0 ; i < 1024 ; i++ ){
+      column.add( ColumnType.DOUBLE , new DoubleObj( 1.5d ) , i );
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    DoubleColumnVector vector = new DoubleColumnVector( 1024 );
+    IColumnVectorAssignor assignor = new DoubleColumnVectorAssignor( DoublePrimitiveSetter.getInstance() );
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 1024 );
+    assertTrue( vector.noNulls );
+    assertTrue( vector.isRepeating );
+    assertEquals( vector.vector[0] , 1.5d );
+
+    assignor.setColumnVector( vector , index , 1024 , 1024 );
+    assertFalse( vector.noNulls );
+    assertTrue( vector.isRepeating );
+    assertTrue( vector.isNull[0] );
+  }
+
 }
@@ -70,4 +70,14 @@ public class TestIntegerPrimitiveSetter{
     }
   }
 
+  @Test
+  public void T_isDirectColumnType_1(){
+    INumberPrimitiveSetter setter = IntegerPrimitiveSetter.getInstance();
+    assertTrue( setter.isDirectColumnType( ColumnType.BYTE ) );
+    assertTrue( setter.isDirectColumnType( ColumnType.SHORT ) );
+    assertTrue( setter.isDirectColumnType( ColumnType.INTEGER ) );
+    assertFalse( setter.isDirectColumnType( ColumnType.LONG ) );
+    assertFalse( setter.isDirectColumnType( ColumnType.STRING ) );
+  }
+
 }
@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.*;
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestListColumnVectorAssignor{
+
+  @Test
+  public void T_set_1() throws IOException{
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 3 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      List<Object> array = new ArrayList<Object>();
+      for( int n = 0 ; n < i + 1 ; n++ ){
+        array.add( new LongObj( i * 10 + n ) );
+      }
+      dataContainer.put( "array" , array );
+      spread.addRow( dataContainer );
+    }
+    Map<String,Object> dataContainer = new HashMap<String,Object>();
+    dataContainer.put( "other" , new LongObj( 0 ) );
+    spread.addRow( dataContainer );
+
+    IColumn column = spread.getColumn( "array" );
+    IExpressionIndex index = new AllExpressionIndex( spread.size() );
+    ListColumnVectorAssignor assignor = new ListColumnVectorAssignor(
+        (ListTypeInfo)TypeInfoFactory.getListTypeInfo( TypeInfoFactory.longTypeInfo ) );
+    assignor.setColumn( spread.size() , column );
+
+    ListColumnVector vector = new ListColumnVector( 1024 , new LongColumnVector( 1024 ) );
+    assignor.setColumnVector( vector , index , 0 , spread.size() );
+    assertEquals( 6 , vector.childCount );
+    LongColumnVector child = (LongColumnVector)vector.child;
+    for( int i = 0 ; i < 3 ; i++ ){
+      assertFalse( vector.isNull[i] );
+      assertEquals( i + 1 , vector.lengths[i] );
+      for( int n = 0 ; n < vector.lengths[i] ; n++ ){
+        assertEquals( i * 10 + n , child.vector[ (int)vector.offsets[i] + n ] );
+      }
+    }
+    assertTrue( vector.isNull[3] );
+    assertFalse( vector.noNulls );
+  }
+
+}
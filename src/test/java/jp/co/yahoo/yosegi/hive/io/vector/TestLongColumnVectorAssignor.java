@@ -19,6 +19,9 @@ package jp.co.yahoo.yosegi.hive.io.vector;
 
 import java.io.*;
 
+import java.util.Map;
+import java.util.HashMap;
+
 import java.util.stream.Stream;
 
 import org.junit.jupiter.api.Test;
@@ -29,6 +32,10 @@ import org.junit.jupiter.params.provider.Arguments;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import jp.co.yahoo.yosegi.config.Configuration;
+import jp.co.yahoo.yosegi.reader.YosegiReader;
+import jp.co.yahoo.yosegi.writer.YosegiRecordWriter;
+import jp.co.yahoo.yosegi.spread.Spread;
 import jp.co.yahoo.yosegi.spread.column.ColumnType;
 import jp.co.yahoo.yosegi.spread.column.IColumn;
 import jp.co.yahoo.yosegi.spread.column.PrimitiveColumn;
@@ -69,4 +76,135 @@ public class TestLongColumnVectorAssignor{
     }
   }
 
+  @Test
+  public void T_set_2() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.INTEGER , "t" );
+    for( int i = 0 ; i < 2000 ; i++ ){
+      if( ( i % 3 ) != 0 ){
+        column.add( ColumnType.INTEGER , new IntegerObj( i ) , i );
+      }
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    IColumnVectorAssignor assignor = new LongColumnVectorAssignor( LongPrimitiveSetter.getInstance() );
+    assignor.setColumn( column.size() , column );
+
+    for( int i = 0 ; i < 2 ; i++ ){
+      int start = i * 1024;
+      LongColumnVector vector = new LongColumnVector( 1024 );
+      assignor.setColumnVector( vector , index , start , 1024 );
+      assertFalse( vector.noNulls );
+      for( int n = 0 ; n < 1024 ; n++ ){
+        if( ( n + start ) < column.size() && ( ( n + start ) % 3 ) != 0 ){
+          assertFalse( vector.isNull[n] );
+          assertEquals( vector.vector[n] , ( n + start ) );
+        }
+        else{
+          assertTrue( vector.isNull[n] );
+        }
+      }
+    }
+  }
+
+  @Test
+  public void T_set_3() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.STRING , "t" );
+    for( int i = 0 ; i < 100 ; i++ ){
+      if( ( i % 2 ) == 0 ){
+        column.add( ColumnType.STRING , new StringObj( Integer.toString( i ) ) , i );
+      }
+      else{
+        column.add( ColumnType.STRING , new StringObj( "a" + i ) , i );
+      }
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    LongColumnVector vector = new LongColumnVector( 1024 );
+    IColumnVectorAssignor assignor = new LongColumnVectorAssignor( LongPrimitiveSetter.getInstance() );
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , column.size() );
+    for( int n = 0 ; n < column.size() ; n++ ){
+      if( ( n % 2 ) == 0 ){
+        assertEquals( vector.vector[n] , n );
+      }
+      else{
+        assertTrue( vector.isNull[n] );
+      }
+    }
+  }
+
+  @Test
+  public void T_set_4() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.LONG , "t" );
+    for( int i = 0 ; i < 100 ; i++ ){
+      column.add( ColumnType.LONG , new LongObj( 5 ) , i );
+    }
+    column.add( ColumnType.LONG , new LongObj( 6 ) , 100 );
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    IColumnVectorAssignor assignor = new LongColumnVectorAssignor( LongPrimitiveSetter.getInstance() );
+    assignor.setColumn( column.size() , column );
+
+    LongColumnVector vector = new LongColumnVector( 1024 );
+    assignor.setColumnVector( vector , index , 0 , 100 );
+    assertTrue( vector.isRepeating );
+    assertEquals( 5 , vector.vector[0] );
+
+    vector = new LongColumnVector( 1024 );
+    assignor.setColumnVector( vector , index , 0 , 101 );
+    assertFalse( vector.isRepeating );
+
+    vector = new LongColumnVector( 1024 );
+    assignor.setColumnVector( vector , index , 200 , 50 );
+    assertTrue( vector.isRepeating );
+    assertFalse( vector.noNulls );
+    assertTrue( vector.isNull[0] );
+  }
+
+  @Test
+  public void T_set_file_1() throws IOException{
+    String dirName = this.getClass().getClassLoader().getResource( "io/out" ).getPath();
+    String outPath = String.format( "%s/TestLongColumnVectorAssignor_T_set_file_1.yosegi" , dirName );
+    OutputStream out = new FileOutputStream( outPath );
+    YosegiRecordWriter writer = new YosegiRecordWriter( out , new Configuration() );
+    for( int i = 0 ; i < 2000 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      if( i % 3 != 0 ){
+        dataContainer.put( "num" , new LongObj( i ) );
+      }
+      dataContainer.put( "str" , new StringObj( "s" ) );
+      writer.addRow( dataContainer );
+    }
+    writer.close();
+
+    File inFile = new File( outPath );
+    YosegiReader reader = new YosegiReader();
+    reader.setNewStream( new FileInputStream( inFile ) , inFile.length() , new Configuration() , 0 , inFile.length() );
+    assertTrue( reader.hasNext() );
+    Spread spread = reader.next();
+    assertEquals( 2000 , spread.size() );
+    IColumn column = spread.getColumn( "num" );
+    IExpressionIndex index = new AllExpressionIndex( spread.size() );
+
+    LongColumnVector vector = new LongColumnVector( 1024 );
+    IColumnVectorAssignor assignor = new LongColumnVectorAssignor( LongPrimitiveSetter.getInstance() );
+    assignor.setColumn( spread.size() , column );
+    for( int i = 0 ; i < 2 ; i++ ){
+      int start = i * 1024;
+      assignor.setColumnVector( vector , index , start , 1024 );
+      assertFalse( vector.noNulls );
+      for( int n = 0 ; n < 1024 ; n++ ){
+        int row = n + start;
+        if( 2000 <= row || row % 3 == 0 ){
+          assertTrue( vector.isNull[n] );
+        }
+        else{
+          assertFalse( vector.isNull[n] );
+          assertEquals( row , vector.vector[n] );
+        }
+      }
+    }
+    reader.close();
+  }
+
 }
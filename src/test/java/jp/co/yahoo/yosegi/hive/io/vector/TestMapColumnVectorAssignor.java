@@ -0,0 +1,142 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import java.io.IOException;
+
+import java.nio.charset.StandardCharsets;
+
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.*;
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestMapColumnVectorAssignor{
+
+  @Test
+  public void T_set_1() throws IOException{
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 3 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      Map<String,Object> map = new HashMap<String,Object>();
+      map.put( "a" , new LongObj( i ) );
+      if( i == 1 ){
+        map.put( "b" , new LongObj( 100 ) );
+      }
+      dataContainer.put( "map" , map );
+      spread.addRow( dataContainer );
+    }
+
+    IColumn column = spread.getColumn( "map" );
+    IExpressionIndex index = new AllExpressionIndex( spread.size() );
+    MapColumnVectorAssignor assignor = new MapColumnVectorAssignor(
+        (MapTypeInfo)TypeInfoFactory.getMapTypeInfo(
+            TypeInfoFactory.stringTypeInfo , TypeInfoFactory.longTypeInfo ) );
+    assignor.setColumn( spread.size() , column );
+
+    MapColumnVector vector = new MapColumnVector(
+        1024 , new BytesColumnVector( 1024 ) , new LongColumnVector( 1024 ) );
+    assignor.setColumnVector( vector , index , 0 , spread.size() );
+    assertEquals( 4 , vector.childCount );
+    assertEquals( 1 , vector.lengths[0] );
+    assertEquals( 2 , vector.lengths[1] );
+    assertEquals( 1 , vector.lengths[2] );
+
+    BytesColumnVector keys = (BytesColumnVector)vector.keys;
+    LongColumnVector values = (LongColumnVector)vector.values;
+    Map<String,Long> row1 = new HashMap<String,Long>();
+    for( int i = (int)vector.offsets[1] ; i < vector.offsets[1] + vector.lengths[1] ; i++ ){
+      row1.put( new String( keys.vector[i] , keys.start[i] , keys.length[i] , StandardCharsets.UTF_8 ) , values.vector[i] );
+    }
+    assertEquals( Long.valueOf( 1 ) , row1.get( "a" ) );
+    assertEquals( Long.valueOf( 100 ) , row1.get( "b" ) );
+  }
+
+  @Test
+  public void T_set_2() throws IOException{
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 3 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      if( i != 1 ){
+        Map<String,Object> map = new HashMap<String,Object>();
+        map.put( "a" , new LongObj( i ) );
+        dataContainer.put( "map" , map );
+      }
+      dataContainer.put( "num" , new LongObj( i ) );
+      spread.addRow( dataContainer );
+    }
+
+    IExpressionIndex index = new AllExpressionIndex( spread.size() );
+    MapColumnVectorAssignor assignor = new MapColumnVectorAssignor(
+        (MapTypeInfo)TypeInfoFactory.getMapTypeInfo(
+            TypeInfoFactory.stringTypeInfo , TypeInfoFactory.longTypeInfo ) );
+    assignor.setColumn( spread.size() , spread.getColumn( "map" ) );
+
+    MapColumnVector vector = new MapColumnVector(
+        1024 , new BytesColumnVector( 1024 ) , new LongColumnVector( 1024 ) );
+    assignor.setColumnVector( vector , index , 0 , spread.size() );
+    assertFalse( vector.noNulls );
+    assertFalse( vector.isNull[0] );
+    assertTrue( vector.isNull[1] );
+    assertFalse( vector.isNull[2] );
+    assertEquals( 2 , vector.childCount );
+    assertEquals( 1 , vector.lengths[0] );
+    assertEquals( 0 , vector.lengths[1] );
+    assertEquals( 1 , vector.lengths[2] );
+    LongColumnVector values = (LongColumnVector)vector.values;
+    assertEquals( 2 , values.vector[ (int)vector.offsets[2] ] );
+  }
+
+  @Test
+  public void T_set_3() throws IOException{
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 3 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "num" , new LongObj( i ) );
+      spread.addRow( dataContainer );
+    }
+
+    IExpressionIndex index = new AllExpressionIndex( spread.size() );
+    MapColumnVectorAssignor assignor = new MapColumnVectorAssignor(
+        (MapTypeInfo)TypeInfoFactory.getMapTypeInfo(
+            TypeInfoFactory.stringTypeInfo , TypeInfoFactory.longTypeInfo ) );
+    assignor.setColumn( spread.size() , spread.getColumn( "num" ) );
+
+    MapColumnVector vector = new MapColumnVector(
+        1024 , new BytesColumnVector( 1024 ) , new LongColumnVector( 1024 ) );
+    assignor.setColumnVector( vector , index , 0 , spread.size() );
+    assertFalse( vector.noNulls );
+    assertTrue( vector.isRepeating );
+    assertTrue( vector.isNull[0] );
+    assertEquals( 0 , vector.childCount );
+  }
+
+}
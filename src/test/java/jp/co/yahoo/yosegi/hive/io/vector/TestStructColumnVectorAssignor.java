@@ -0,0 +1,112 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import java.io.IOException;
+
+import java.util.Arrays;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.*;
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestStructColumnVectorAssignor{
+
+  @Test
+  public void T_set_1() throws IOException{
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 3 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      Map<String,Object> struct = new HashMap<String,Object>();
+      struct.put( "a" , new LongObj( i ) );
+      if( i != 1 ){
+        struct.put( "b" , new StringObj( "b" + i ) );
+      }
+      dataContainer.put( "struct" , struct );
+      spread.addRow( dataContainer );
+    }
+
+    IColumn column = spread.getColumn( "struct" );
+    IExpressionIndex index = new AllExpressionIndex( spread.size() );
+    StructColumnVectorAssignor assignor = new StructColumnVectorAssignor(
+        (StructTypeInfo)TypeInfoFactory.getStructTypeInfo(
+            Arrays.asList( "a" , "b" ) ,
+            Arrays.asList( TypeInfoFactory.longTypeInfo , TypeInfoFactory.stringTypeInfo ) ) );
+    assignor.setColumn( spread.size() , column );
+
+    StructColumnVector vector = new StructColumnVector(
+        1024 , new LongColumnVector( 1024 ) , new BytesColumnVector( 1024 ) );
+    assignor.setColumnVector( vector , index , 0 , spread.size() );
+    LongColumnVector a = (LongColumnVector)vector.fields[0];
+    BytesColumnVector b = (BytesColumnVector)vector.fields[1];
+    for( int i = 0 ; i < 3 ; i++ ){
+      assertEquals( i , a.vector[i] );
+    }
+    assertEquals( "b0" , new String( b.vector[0] , b.start[0] , b.length[0] ) );
+    assertTrue( b.isNull[1] );
+    assertEquals( "b2" , new String( b.vector[2] , b.start[2] , b.length[2] ) );
+    assertTrue( vector.noNulls );
+  }
+
+  @Test
+  public void T_set_2() throws IOException{
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 3 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "num" , new LongObj( i ) );
+      if( i != 1 ){
+        Map<String,Object> struct = new HashMap<String,Object>();
+        struct.put( "a" , new LongObj( i ) );
+        dataContainer.put( "struct" , struct );
+      }
+      spread.addRow( dataContainer );
+    }
+
+    IColumn column = spread.getColumn( "struct" );
+    IExpressionIndex index = new AllExpressionIndex( spread.size() );
+    StructColumnVectorAssignor assignor = new StructColumnVectorAssignor(
+        (StructTypeInfo)TypeInfoFactory.getStructTypeInfo(
+            Arrays.asList( "a" ) , Arrays.asList( TypeInfoFactory.longTypeInfo ) ) );
+    assignor.setColumn( spread.size() , column );
+
+    StructColumnVector vector = new StructColumnVector( 1024 , new LongColumnVector( 1024 ) );
+    assignor.setColumnVector( vector , index , 0 , spread.size() );
+    assertFalse( vector.noNulls );
+    assertFalse( vector.isNull[0] );
+    assertTrue( vector.isNull[1] );
+    assertFalse( vector.isNull[2] );
+    LongColumnVector a = (LongColumnVector)vector.fields[0];
+    assertEquals( 0 , a.vector[0] );
+    assertTrue( a.isNull[1] );
+    assertEquals( 2 , a.vector[2] );
+  }
+
+}
@@ -0,0 +1,81 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package jp.co.yahoo.yosegi.hive.io.vector;
+
+import java.io.*;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.spread.column.ColumnType;
+import jp.co.yahoo.yosegi.spread.column.IColumn;
+import jp.co.yahoo.yosegi.spread.column.PrimitiveColumn;
+import jp.co.yahoo.yosegi.spread.expression.AllExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+
+import org.apache.hadoop.hive.ql.exec.vector.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+
+public class TestTimestampColumnVectorAssignor{
+
+  @Test
+  public void T_set_1() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.LONG , "t" );
+    for( int i = 0 ; i < 2000 ; i++ ){
+      column.add( ColumnType.LONG , new LongObj( 1546300800123L + i ) , i );
+    }
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    TimestampColumnVector vector = new TimestampColumnVector( 1024 );
+    IColumnVectorAssignor assignor = new TimestampColumnVectorAssignor();
+    assignor.setColumn( column.size() , column );
+
+    for( int i = 0 ; i < 3 ; i++ ){
+      int start = i * 1024;
+      assignor.setColumnVector( vector , index , start , 1024 );
+      for( int n = 0 ; n < 1024 ; n++ ){
+        if( ( n + start ) < 2000 ){
+          long millis = 1546300800123L + n + start;
+          assertEquals( vector.time[n] , millis );
+          assertEquals( vector.nanos[n] , (int)( millis % 1000 ) * 1000000 );
+        }
+        else{
+          assertTrue( vector.isNull[n] );
+        }
+      }
+    }
+  }
+
+  @Test
+  public void T_set_2() throws IOException{
+    IColumn column = new PrimitiveColumn( ColumnType.LONG , "t" );
+    column.add( ColumnType.LONG , new LongObj( -1L ) , 0 );
+    IExpressionIndex index = new AllExpressionIndex( column.size() );
+
+    TimestampColumnVector vector = new TimestampColumnVector( 1024 );
+    IColumnVectorAssignor assignor = new TimestampColumnVectorAssignor();
+    assignor.setColumn( column.size() , column );
+    assignor.setColumnVector( vector , index , 0 , 1 );
+    assertEquals( vector.time[0] , -1L );
+    assertEquals( vector.nanos[0] , 999000000 );
+  }
+
+}
@@ -17,8 +17,12 @@
  */
 package jp.co.yahoo.yosegi.hive.pushdown;
 
+import java.io.*;
+
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
 
 import java.util.stream.Stream;
 
@@ -30,6 +34,11 @@ import org.junit.jupiter.params.provider.Arguments;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import jp.co.yahoo.yosegi.config.Configuration;
+import jp.co.yahoo.yosegi.message.objects.*;
+import jp.co.yahoo.yosegi.reader.YosegiReader;
+import jp.co.yahoo.yosegi.writer.YosegiRecordWriter;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
 import jp.co.yahoo.yosegi.spread.expression.IExtractNode;
 
 import org.apache.hadoop.hive.serde2.typeinfo.*;
@@ -124,4 +133,109 @@ public class TestCreateExtractNodeUtil{
     assertEquals( CreateExtractNodeUtil.getExtractNodeFromGenericIndex( funcDesc , udf ) , null );
   }
 
+  @Test
+  public void T_getExtractNodeFromField_1(){
+    ExprNodeFieldDesc fieldDesc = new ExprNodeFieldDesc( TypeInfoFactory.intTypeInfo , new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , "arr" , "arr" , false ) , "a" , true );
+    assertEquals( CreateExtractNodeUtil.getExtractNode( fieldDesc ) , null );
+  }
+
+  @Test
+  public void T_getExtractNodeFromField_2(){
+    ExprNodeFieldDesc fieldDesc = new ExprNodeFieldDesc( TypeInfoFactory.intTypeInfo , new ExprNodeConstantDesc() , "a" , false );
+    assertEquals( CreateExtractNodeUtil.getExtractNode( fieldDesc ) , null );
+  }
+
+  @Test
+  public void T_getExtractNodeFromGenericIndex_6(){
+    ListTypeInfo info = new ListTypeInfo();
+    info.setListElementTypeInfo( TypeInfoFactory.stringTypeInfo );
+
+    GenericUDF udf = new GenericUDFIndex();
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( info , "arr" , "arr" , false  ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.stringTypeInfo , "0" ) );
+    ExprNodeGenericFuncDesc funcDesc = new ExprNodeGenericFuncDesc( TypeInfoFactory.stringTypeInfo , udf , childList );
+    assertEquals( CreateExtractNodeUtil.getExtractNodeFromGenericIndex( funcDesc , udf ) , null );
+  }
+
+  private void createFile( final String path , final String mapValue , final int structValue ) throws IOException{
+    OutputStream out = new FileOutputStream( path );
+    YosegiRecordWriter writer = new YosegiRecordWriter( out , new Configuration() );
+    for( int i = 0 ; i < 1000 ; i++ ){
+      Map<String,Object> map = new HashMap<String,Object>();
+      map.put( "k" , new StringObj( mapValue ) );
+      map.put( "other" , new StringObj( "o-" + i ) );
+      Map<String,Object> childStruct = new HashMap<String,Object>();
+      childStruct.put( "b" , new IntegerObj( structValue ) );
+      Map<String,Object> struct = new HashMap<String,Object>();
+      struct.put( "a" , childStruct );
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "m" , map );
+      dataContainer.put( "s" , struct );
+      dataContainer.put( "num" , new IntegerObj( i ) );
+      writer.addRow( dataContainer );
+    }
+    writer.close();
+  }
+
+  private int countRows( final String path , final IExpressionNode node ) throws IOException{
+    File inFile = new File( path );
+    YosegiReader reader = new YosegiReader();
+    reader.setNewStream( new FileInputStream( inFile ) , inFile.length() , new Configuration() , 0 , inFile.length() );
+    reader.setBlockSkipIndex( node );
+    int rowCount = 0;
+    while( reader.hasNext() ){
+      rowCount += reader.next().size();
+    }
+    reader.close();
+    return rowCount;
+  }
+
+  private IExpressionNode createMapKeyEquals( final String value ){
+    MapTypeInfo info = new MapTypeInfo();
+    info.setMapKeyTypeInfo( TypeInfoFactory.stringTypeInfo );
+    info.setMapValueTypeInfo( TypeInfoFactory.stringTypeInfo );
+    List<ExprNodeDesc> indexChildList = new ArrayList<ExprNodeDesc>();
+    indexChildList.add( new ExprNodeColumnDesc( info , "m" , "t" , false ) );
+    indexChildList.add( new ExprNodeConstantDesc( TypeInfoFactory.stringTypeInfo , "k" ) );
+    ExprNodeGenericFuncDesc indexDesc = new ExprNodeGenericFuncDesc( TypeInfoFactory.stringTypeInfo , new GenericUDFIndex() , indexChildList );
+
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( indexDesc );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.stringTypeInfo , value ) );
+    return new EqualsHiveExpr( childList ).getPushDownFilterNode();
+  }
+
+  private IExpressionNode createStructFieldEquals( final int value ){
+    ExprNodeFieldDesc aDesc = new ExprNodeFieldDesc( TypeInfoFactory.intTypeInfo , new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , "s" , "t" , false ) , "a" , false );
+    ExprNodeFieldDesc bDesc = new ExprNodeFieldDesc( TypeInfoFactory.intTypeInfo , aDesc , "b" , false );
+
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( bDesc );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , value ) );
+    return new EqualsHiveExpr( childList ).getPushDownFilterNode();
+  }
+
+  @Test
+  public void T_blockSkip_mapKey_1() throws IOException{
+    String dirName = this.getClass().getClassLoader().getResource( "io/out" ).getPath();
+    String outPath = String.format( "%s/TestCreateExtractNodeUtil_T_blockSkip_mapKey_1.yosegi" , dirName );
+    createFile( outPath , "x" , 1 );
+
+    assertNotNull( createMapKeyEquals( "x" ) );
+    assertEquals( 1000 , countRows( outPath , createMapKeyEquals( "x" ) ) );
+    assertEquals( 0 , countRows( outPath , createMapKeyEquals( "y" ) ) );
+  }
+
+  @Test
+  public void T_blockSkip_structField_1() throws IOException{
+    String dirName = this.getClass().getClassLoader().getResource( "io/out" ).getPath();
+    String outPath = String.format( "%s/TestCreateExtractNodeUtil_T_blockSkip_structField_1.yosegi" , dirName );
+    createFile( outPath , "x" , 1 );
+
+    assertNotNull( createStructFieldEquals( 1 ) );
+    assertEquals( 1000 , countRows( outPath , createStructFieldEquals( 1 ) ) );
+    assertEquals( 0 , countRows( outPath , createStructFieldEquals( 2 ) ) );
+  }
+
 }
@@ -0,0 +1,98 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.yahoo.yosegi.hive.pushdown;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.ArrayList;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.message.objects.LongObj;
+import jp.co.yahoo.yosegi.spread.column.filter.NumberFilterType;
+import jp.co.yahoo.yosegi.spread.expression.ExecuterNode;
+
+import org.apache.hadoop.hive.common.type.Date;
+import org.apache.hadoop.hive.common.type.Timestamp;
+import org.apache.hadoop.hive.serde2.objectinspector.PrimitiveObjectInspector;
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+import org.apache.hadoop.hive.ql.plan.*;
+
+public class TestDateTimeConstantUtil{
+
+  private PrimitiveObjectInspector getInspector( final ExprNodeConstantDesc constDesc ){
+    return (PrimitiveObjectInspector)( constDesc.getWritableObjectInspector() );
+  }
+
+  @Test
+  public void T_getEpochMilliObj_date_1() throws IOException{
+    Date date = Date.valueOf( "2020-01-02" );
+    LongObj result = DateTimeConstantUtil.getEpochMilliObj(
+        getInspector( new ExprNodeConstantDesc( TypeInfoFactory.dateTypeInfo , date ) ) );
+    assertEquals( date.toEpochMilli() , result.getLong() );
+    assertEquals( 1577923200000L , result.getLong() );
+  }
+
+  @Test
+  public void T_getEpochMilliObj_timestamp_1() throws IOException{
+    Timestamp timestamp = Timestamp.valueOf( "2020-01-02 03:04:05.006" );
+    LongObj result = DateTimeConstantUtil.getEpochMilliObj(
+        getInspector( new ExprNodeConstantDesc( TypeInfoFactory.timestampTypeInfo , timestamp ) ) );
+    assertEquals( timestamp.toEpochMilli() , result.getLong() );
+  }
+
+  @Test
+  public void T_getEpochMilliObj_timestamp_2(){
+    Timestamp timestamp = Timestamp.valueOf( "2020-01-02 03:04:05.0060001" );
+    assertNull( DateTimeConstantUtil.getEpochMilliObj(
+        getInspector( new ExprNodeConstantDesc( TypeInfoFactory.timestampTypeInfo , timestamp ) ) ) );
+  }
+
+  @Test
+  public void T_getEpochMilliObj_null_1(){
+    assertNull( DateTimeConstantUtil.getEpochMilliObj(
+        getInspector( new ExprNodeConstantDesc( TypeInfoFactory.dateTypeInfo , null ) ) ) );
+  }
+
+  @Test
+  public void T_between_1(){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.booleanTypeInfo , false ) );
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.timestampTypeInfo , "event_time" , "t" , false ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.timestampTypeInfo , Timestamp.valueOf( "2020-01-01 00:00:00" ) ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.timestampTypeInfo , Timestamp.valueOf( "2020-01-02 00:00:00" ) ) );
+    assertTrue( new BetweenHiveExpr( childList ).getPushDownFilterNode() instanceof ExecuterNode );
+  }
+
+  @Test
+  public void T_compare_1(){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.dateTypeInfo , "dt" , "t" , false ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.dateTypeInfo , Date.valueOf( "2020-01-02" ) ) );
+    assertTrue( new EqualsHiveExpr( childList ).getPushDownFilterNode() instanceof ExecuterNode );
+    assertTrue( CompareHiveExpr.getCompareExecuter(
+        (ExprNodeConstantDesc)( childList.get(1) ) ,
+        CreateExtractNodeUtil.getExtractNode( childList.get(0) ) ,
+        null ,
+        NumberFilterType.GE ) instanceof ExecuterNode );
+  }
+
+}
@@ -0,0 +1,166 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.yahoo.yosegi.hive.pushdown;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.IndexFactory;
+
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+import org.apache.hadoop.hive.ql.plan.*;
+import org.apache.hadoop.hive.ql.udf.generic.*;
+
+public class TestHiveExprNotNode{
+
+  private Spread createSpread() throws IOException{
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 10 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "num" , new IntegerObj( i ) );
+      spread.addRow( dataContainer );
+    }
+    return spread;
+  }
+
+  private ExprNodeDesc createEquals( final int value ){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , "num" , "t" , false  ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , value ) );
+    return new ExprNodeGenericFuncDesc( TypeInfoFactory.booleanTypeInfo , new GenericUDFOPEqual() , childList );
+  }
+
+  private ExprNodeDesc createIn( final int... values ){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , "num" , "t" , false  ) );
+    for( int value : values ){
+      childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , value ) );
+    }
+    return new ExprNodeGenericFuncDesc( TypeInfoFactory.booleanTypeInfo , new GenericUDFIn() , childList );
+  }
+
+  private ExprNodeDesc createUnsupported(){
+    return new ExprNodeConstantDesc( TypeInfoFactory.booleanTypeInfo , true );
+  }
+
+  private ExprNodeDesc createFunc( final GenericUDF udf , final ExprNodeDesc... children ){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    for( ExprNodeDesc child : children ){
+      childList.add( child );
+    }
+    return new ExprNodeGenericFuncDesc( TypeInfoFactory.booleanTypeInfo , udf , childList );
+  }
+
+  private HiveExprNotNode createNot( final ExprNodeDesc child ){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( child );
+    return new HiveExprNotNode( childList );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_1() throws IOException{
+    IExpressionNode node = createNot( createEquals( 3 ) ).getPushDownFilterNode();
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 9 , index.size() );
+    assertEquals( 4 , index.get(3) );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_2() throws IOException{
+    HiveExprNotNode notNode = createNot(
+        createFunc( new GenericUDFOPAnd() , createEquals( 3 ) , createUnsupported() ) );
+    assertNull( notNode.getPushDownFilterNode() );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_3() throws IOException{
+    IExpressionNode node = createNot(
+        createFunc( new GenericUDFOPOr() , createEquals( 3 ) , createUnsupported() ) )
+        .getPushDownFilterNode();
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 9 , index.size() );
+    assertEquals( 4 , index.get(3) );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_4() throws IOException{
+    IExpressionNode node = createNot(
+        createFunc( new GenericUDFOPAnd() , createEquals( 3 ) , createEquals( 4 ) ) )
+        .getPushDownFilterNode();
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 10 , index.size() );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_5() throws IOException{
+    IExpressionNode node = createNot(
+        createFunc( new GenericUDFOPNot() , createEquals( 3 ) ) ).getPushDownFilterNode();
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 1 , index.size() );
+    assertEquals( 3 , index.get(0) );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_6() throws IOException{
+    HiveExprNotNode notNode = createNot( createUnsupported() );
+    assertNull( notNode.getPushDownFilterNode() );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_7() throws IOException{
+    IExpressionNode node = createNot( createIn( 1 , 3 ) ).getPushDownFilterNode();
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 8 , index.size() );
+    assertEquals( 2 , index.get(1) );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_8() throws IOException{
+    int[] values = new int[10000];
+    for( int i = 0 ; i < values.length ; i++ ){
+      values[i] = i * 2;
+    }
+    // The IN is pushed down only as its range, so NOT of it must not be pushed down.
+    assertNull( createNot( createIn( values ) ).getPushDownFilterNode() );
+
+    IExpressionNode node = createNot(
+        createFunc( new GenericUDFOPOr() , createIn( values ) , createEquals( 3 ) ) )
+        .getPushDownFilterNode();
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 9 , index.size() );
+  }
+
+}
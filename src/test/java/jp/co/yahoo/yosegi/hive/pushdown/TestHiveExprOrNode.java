@@ -0,0 +1,128 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.yahoo.yosegi.hive.pushdown;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.IndexFactory;
+
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+import org.apache.hadoop.hive.ql.plan.*;
+import org.apache.hadoop.hive.ql.udf.generic.*;
+
+public class TestHiveExprOrNode{
+
+  private Spread createSpread() throws IOException{
+    Spread spread = new Spread();
+    String[] values = new String[]{ "a" , "b" , "c" , "d" , "e" };
+    for( int i = 0 ; i < values.length ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "str" , new StringObj( values[i] ) );
+      dataContainer.put( "str2" , new StringObj( values[i] ) );
+      dataContainer.put( "num" , new IntegerObj( i ) );
+      spread.addRow( dataContainer );
+    }
+    return spread;
+  }
+
+  private ExprNodeDesc createFunc( final GenericUDF udf , final String column , final Object... values ){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    if( values[0] instanceof String ){
+      childList.add( new ExprNodeColumnDesc( TypeInfoFactory.stringTypeInfo , column , "t" , false  ) );
+    }
+    else{
+      childList.add( new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , column , "t" , false  ) );
+    }
+    for( Object value : values ){
+      if( value instanceof String ){
+        childList.add( new ExprNodeConstantDesc( TypeInfoFactory.stringTypeInfo , value ) );
+      }
+      else{
+        childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , value ) );
+      }
+    }
+    return new ExprNodeGenericFuncDesc( TypeInfoFactory.booleanTypeInfo , udf , childList );
+  }
+
+  private List<ExprNodeDesc> createChildList( final ExprNodeDesc... children ){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    for( ExprNodeDesc child : children ){
+      childList.add( child );
+    }
+    return childList;
+  }
+
+  private void assertIndex( final IExpressionNode node , final int[] expected ) throws IOException{
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( expected.length , index.size() );
+    for( int i = 0 ; i < expected.length ; i++ ){
+      assertEquals( expected[i] , index.get(i) );
+    }
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_1() throws IOException{
+    HiveExprOrNode orNode = new HiveExprOrNode( createChildList(
+        createFunc( new GenericUDFOPEqual() , "str" , "a" ) ,
+        createFunc( new GenericUDFIn() , "str" , "c" , "x" ) ,
+        createFunc( new GenericUDFOPEqual() , "num" , 4 ) ) );
+    assertIndex( orNode.getPushDownFilterNode() , new int[]{ 0 , 2 , 4 } );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_2() throws IOException{
+    HiveExprOrNode orNode = new HiveExprOrNode( createChildList(
+        createFunc( new GenericUDFOPEqual() , "str" , "a" ) ,
+        createFunc( new GenericUDFOPEqual() , "str2" , "b" ) ,
+        createFunc( new GenericUDFOPEqual() , "str" , "d" ) ) );
+    assertIndex( orNode.getPushDownFilterNode() , new int[]{ 0 , 1 , 3 } );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_3() throws IOException{
+    HiveExprOrNode orNode = new HiveExprOrNode( createChildList(
+        createFunc( new GenericUDFOPEqual() , "str" , "a" ) ,
+        createFunc( new GenericUDFOPNotEqual() , "str" , "b" ) ) );
+    assertIndex( orNode.getPushDownFilterNode() , new int[]{ 0 , 2 , 3 , 4 } );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_4() throws IOException{
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeGenericFuncDesc( TypeInfoFactory.booleanTypeInfo , new GenericUDFOPOr() , createChildList(
+        createFunc( new GenericUDFOPEqual() , "str" , "a" ) ,
+        createFunc( new GenericUDFOPEqual() , "str" , "b" ) ) ) );
+    IExpressionNode node = new HiveExprNotNode( childList ).getPushDownFilterNode();
+    assertIndex( node , new int[]{ 2 , 3 , 4 } );
+  }
+
+}
@@ -17,8 +17,12 @@
  */
 package jp.co.yahoo.yosegi.hive.pushdown;
 
+import java.io.IOException;
+
 import java.util.List;
 import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
 
 import java.util.stream.Stream;
 
@@ -30,7 +34,12 @@ import org.junit.jupiter.params.provider.Arguments;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.junit.jupiter.params.provider.Arguments.arguments;
 
+import jp.co.yahoo.yosegi.message.objects.*;
+import jp.co.yahoo.yosegi.spread.Spread;
 import jp.co.yahoo.yosegi.spread.expression.ExecuterNode;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.IndexFactory;
 
 import org.apache.hadoop.hive.serde2.typeinfo.*;
 import org.apache.hadoop.hive.ql.plan.*;
@@ -49,4 +58,128 @@ public class TestInHiveExpr{
     assertNull( InHiveExpr.getEqualsExecuter( childList , 1 ) );
   }
 
+  private Spread createSpread() throws IOException{
+    Spread spread = new Spread();
+    for( int i = 0 ; i < 100 ; i++ ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "num" , new IntegerObj( i ) );
+      dataContainer.put( "dnum" , new DoubleObj( i * 0.5d ) );
+      spread.addRow( dataContainer );
+    }
+    return spread;
+  }
+
+  @Test
+  public void T_getNumberInExecuter_1() throws IOException{
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , "num" , "t" , false  ) );
+    int[] values = new int[]{ 3 , 1 , 2 , 50 , -1 , 2 , 200 };
+    for( int value : values ){
+      childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , value ) );
+    }
+    IExpressionNode node = new InHiveExpr( childList ).getPushDownFilterNode();
+    assertNotNull( node );
+
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 4 , index.size() );
+    assertEquals( 1 , index.get(0) );
+    assertEquals( 2 , index.get(1) );
+    assertEquals( 3 , index.get(2) );
+    assertEquals( 50 , index.get(3) );
+  }
+
+  @Test
+  public void T_getNumberInExecuter_2() throws IOException{
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.doubleTypeInfo , "dnum" , "t" , false  ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.doubleTypeInfo , 1.5d ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.doubleTypeInfo , 0.0d ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.doubleTypeInfo , -0.0d ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.doubleTypeInfo , 1.25d ) );
+    IExpressionNode node = new InHiveExpr( childList ).getPushDownFilterNode();
+    assertNotNull( node );
+
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 2 , index.size() );
+    assertEquals( 0 , index.get(0) );
+    assertEquals( 3 , index.get(1) );
+  }
+
+  @Test
+  public void T_getNumberInExecuter_3(){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    ExprNodeDesc columnDesc = new ExprNodeColumnDesc( TypeInfoFactory.doubleTypeInfo , "dnum" , "t" , false  );
+    childList.add( columnDesc );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.doubleTypeInfo , 1.5d ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.doubleTypeInfo , Double.NaN ) );
+    assertNull( InHiveExpr.getNumberInExecuter( childList , 1 , columnDesc ) );
+  }
+
+  @Test
+  public void T_getNumberInExecuter_4(){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    ExprNodeDesc columnDesc = new ExprNodeColumnDesc( TypeInfoFactory.longTypeInfo , "num" , "t" , false  );
+    childList.add( columnDesc );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.longTypeInfo , 1L ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , 2 ) );
+    assertNull( InHiveExpr.getNumberInExecuter( childList , 1 , columnDesc ) );
+  }
+
+  @Test
+  public void T_getNumberInExecuter_5() throws IOException{
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , "num" , "t" , false  ) );
+    for( int i = 0 ; i < 10000 ; i++ ){
+      childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , i * 2 ) );
+    }
+    InHiveExpr expr = new InHiveExpr( childList );
+    IExpressionNode node = expr.getPushDownFilterNode();
+    assertNotNull( node );
+    assertFalse( expr.isExactFilter() );
+
+    // Only the range is pushed down, so the odd values are also kept.
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 100 , index.size() );
+  }
+
+  @Test
+  public void T_isExactFilter_1(){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , "num" , "t" , false  ) );
+    for( int i = 0 ; i < 10000 ; i++ ){
+      childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , i ) );
+    }
+    assertTrue( new InHiveExpr( childList ).isExactFilter() );
+
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , 20000 ) );
+    assertTrue( new InHiveExpr( childList ).isExactFilter() );
+  }
+
+  @Test
+  public void T_isExactFilter_2() throws IOException{
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.intTypeInfo , "num" , "t" , false  ) );
+    for( int i = 31 ; 0 <= i ; i-- ){
+      childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , i * 3 ) );
+      childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , i * 3 ) );
+    }
+    InHiveExpr expr = new InHiveExpr( childList );
+    assertTrue( expr.isExactFilter() );
+    IExpressionNode node = expr.getPushDownFilterNode();
+    assertTrue( expr.isExactFilter() );
+
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 32 , index.size() );
+    for( int i = 0 ; i < index.size() ; i++ ){
+      assertEquals( i * 3 , index.get(i) );
+    }
+
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , 200 ) );
+    assertFalse( new InHiveExpr( childList ).isExactFilter() );
+  }
+
 }
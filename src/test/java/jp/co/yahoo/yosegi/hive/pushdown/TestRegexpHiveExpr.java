@@ -0,0 +1,132 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.yahoo.yosegi.hive.pushdown;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.Arguments;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.IndexFactory;
+
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+import org.apache.hadoop.hive.ql.plan.*;
+
+public class TestRegexpHiveExpr{
+
+  private static final String[] VALUES = new String[]{
+    "abc" , "abd" , "xabc" , "ab\nc" , "a_c" , "abc\n" , "ab%" , "b" };
+
+  public static Stream<Arguments> data1() throws IOException{
+    return Stream.of(
+      arguments( "abc" , new int[]{ 0 } ),
+      arguments( "ab%" , new int[]{ 0 , 1 , 3 , 5 , 6 } ),
+      arguments( "%bc" , new int[]{ 0 , 2 } ),
+      arguments( "%bc%" , new int[]{ 0 , 2 , 5 } ),
+      arguments( "a_c" , new int[]{ 0 , 4 } ),
+      arguments( "a\\_c" , new int[]{ 4 } ),
+      arguments( "ab\\%" , new int[]{ 6 } ),
+      arguments( "a%c" , new int[]{ 0 , 3 , 4 } ),
+      arguments( "ab_c" , new int[]{ 3 } ),
+      arguments( "%" , new int[]{ 0 , 1 , 2 , 3 , 4 , 5 , 6 , 7 } )
+    );
+  }
+
+  public static Stream<Arguments> data2() throws IOException{
+    return Stream.of(
+      arguments( "bc" , new int[]{ 0 , 2 , 5 } ),
+      arguments( "^ab" , new int[]{ 0 , 1 , 3 , 5 , 6 } ),
+      arguments( "c$" , new int[]{ 0 , 2 , 3 , 4 , 5 } ),
+      arguments( "a.c" , new int[]{ 0 , 2 , 4 , 5 } ),
+      arguments( "b.c" , new int[]{} ),
+      arguments( "x|d" , new int[]{ 1 , 2 } )
+    );
+  }
+
+  private Spread createSpread() throws IOException{
+    Spread spread = new Spread();
+    for( String value : VALUES ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "str" , new StringObj( value ) );
+      spread.addRow( dataContainer );
+    }
+    return spread;
+  }
+
+  private List<ExprNodeDesc> createChildList( final String pattern ){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.stringTypeInfo , "str" , "t" , false  ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.stringTypeInfo , pattern ) );
+    return childList;
+  }
+
+  private void assertIndex( final IExpressionNode node , final int[] expected ) throws IOException{
+    assertNotNull( node );
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( expected.length , index.size() );
+    for( int i = 0 ; i < expected.length ; i++ ){
+      assertEquals( expected[i] , index.get(i) );
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource( "data1" )
+  public void T_like_1( final String pattern , final int[] expected ) throws IOException{
+    assertIndex( new RegexpHiveExpr( createChildList( pattern ) ).getPushDownFilterNode() , expected );
+  }
+
+  @ParameterizedTest
+  @MethodSource( "data2" )
+  public void T_rlike_1( final String pattern , final int[] expected ) throws IOException{
+    assertIndex( new RlikeHiveExpr( createChildList( pattern ) ).getPushDownFilterNode() , expected );
+  }
+
+  @Test
+  public void T_rlike_2(){
+    assertNull( new RlikeHiveExpr( createChildList( "" ) ).getPushDownFilterNode() );
+    assertNull( new RlikeHiveExpr( createChildList( "(a" ) ).getPushDownFilterNode() );
+    assertNull( new RlikeHiveExpr( createChildList( "(?x)a#b" ) ).getPushDownFilterNode() );
+    assertNull( new RlikeHiveExpr( createChildList( "\\Qa" ) ).getPushDownFilterNode() );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_1(){
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.stringTypeInfo , "abc" ) );
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.stringTypeInfo , "str" , "t" , false  ) );
+    assertNull( new RegexpHiveExpr( childList ).getPushDownFilterNode() );
+  }
+
+}
@@ -0,0 +1,137 @@
+/**
+ * Licensed to the Apache Software Foundation (ASF) under one
+ * or more contributor license agreements.  See the NOTICE file
+ * distributed with this work for additional information
+ * regarding copyright ownership.  The ASF licenses this file
+ * to you under the Apache License, Version 2.0 (the
+ * "License"); you may not use this file except in compliance
+ * with the License.  You may obtain a copy of the License at
+ * <p/>
+ * http://www.apache.org/licenses/LICENSE-2.0
+ * <p/>
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package jp.co.yahoo.yosegi.hive.pushdown;
+
+import java.io.IOException;
+
+import java.util.List;
+import java.util.ArrayList;
+import java.util.Map;
+import java.util.HashMap;
+
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.Arguments;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.params.provider.Arguments.arguments;
+
+import jp.co.yahoo.yosegi.message.objects.*;
+import jp.co.yahoo.yosegi.spread.Spread;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionIndex;
+import jp.co.yahoo.yosegi.spread.expression.IExpressionNode;
+import jp.co.yahoo.yosegi.spread.expression.IndexFactory;
+
+import org.apache.hadoop.hive.serde2.typeinfo.*;
+import org.apache.hadoop.hive.ql.plan.*;
+import org.apache.hadoop.hive.ql.udf.generic.*;
+
+public class TestStringLengthHiveExpr{
+
+  private static final String[] VALUES = new String[]{ "" , "a" , "ab" , "" };
+
+  public static Stream<Arguments> data1() throws IOException{
+    return Stream.of(
+      arguments( new GenericUDFOPEqual() , true , 0 , new int[]{ 0 , 3 } ),
+      arguments( new GenericUDFOPEqualOrLessThan() , true , 0 , new int[]{ 0 , 3 } ),
+      arguments( new GenericUDFOPLessThan() , true , 1 , new int[]{ 0 , 3 } ),
+      arguments( new GenericUDFOPGreaterThan() , false , 1 , new int[]{ 0 , 3 } ),
+      arguments( new GenericUDFOPNotEqual() , true , 0 , new int[]{ 1 , 2 } ),
+      arguments( new GenericUDFOPGreaterThan() , true , 0 , new int[]{ 1 , 2 } ),
+      arguments( new GenericUDFOPEqualOrGreaterThan() , true , 1 , new int[]{ 1 , 2 } ),
+      arguments( new GenericUDFOPLessThan() , false , 0 , new int[]{ 1 , 2 } )
+    );
+  }
+
+  public static Stream<Arguments> data2() throws IOException{
+    return Stream.of(
+      arguments( new GenericUDFOPEqual() , true , 1 ),
+      arguments( new GenericUDFOPNotEqual() , true , 1 ),
+      arguments( new GenericUDFOPGreaterThan() , true , 1 ),
+      arguments( new GenericUDFOPLessThan() , true , 2 ),
+      arguments( new GenericUDFOPEqual() , true , -1 )
+    );
+  }
+
+  private Spread createSpread() throws IOException{
+    Spread spread = new Spread();
+    for( String value : VALUES ){
+      Map<String,Object> dataContainer = new HashMap<String,Object>();
+      dataContainer.put( "str" , new StringObj( value ) );
+      spread.addRow( dataContainer );
+    }
+    return spread;
+  }
+
+  private List<ExprNodeDesc> createChildList( final boolean isLengthLeft , final int value ){
+    List<ExprNodeDesc> lengthChildList = new ArrayList<ExprNodeDesc>();
+    lengthChildList.add( new ExprNodeColumnDesc( TypeInfoFactory.stringTypeInfo , "str" , "t" , false  ) );
+    ExprNodeDesc lengthDesc = new ExprNodeGenericFuncDesc( TypeInfoFactory.intTypeInfo , new GenericUDFLength() , lengthChildList );
+    ExprNodeDesc constantDesc = new ExprNodeConstantDesc( TypeInfoFactory.intTypeInfo , value );
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    if( isLengthLeft ){
+      childList.add( lengthDesc );
+      childList.add( constantDesc );
+    }
+    else{
+      childList.add( constantDesc );
+      childList.add( lengthDesc );
+    }
+    return childList;
+  }
+
+  @ParameterizedTest
+  @MethodSource( "data1" )
+  public void T_getPushDownFilterNode_1( final GenericUDF udf , final boolean isLengthLeft , final int value , final int[] expected ) throws IOException{
+    List<ExprNodeDesc> childList = createChildList( isLengthLeft , value );
+    IHiveExprNode expr = HiveExprFactory.get( null , udf , childList );
+    assertTrue( expr instanceof StringLengthHiveExpr );
+    IExpressionNode node = expr.getPushDownFilterNode();
+    assertNotNull( node );
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( expected.length , index.size() );
+    for( int i = 0 ; i < expected.length ; i++ ){
+      assertEquals( expected[i] , index.get(i) );
+    }
+  }
+
+  @ParameterizedTest
+  @MethodSource( "data2" )
+  public void T_getPushDownFilterNode_2( final GenericUDF udf , final boolean isLengthLeft , final int value ) throws IOException{
+    List<ExprNodeDesc> childList = createChildList( isLengthLeft , value );
+    assertNull( new StringLengthHiveExpr( udf , childList ).getPushDownFilterNode() );
+  }
+
+  @Test
+  public void T_getPushDownFilterNode_3() throws IOException{
+    List<ExprNodeDesc> childList = new ArrayList<ExprNodeDesc>();
+    childList.add( new ExprNodeColumnDesc( TypeInfoFactory.stringTypeInfo , "str" , "t" , false  ) );
+    childList.add( new ExprNodeConstantDesc( TypeInfoFactory.stringTypeInfo , "" ) );
+    IExpressionNode node = new NotEqualsHiveExpr( childList ).getPushDownFilterNode();
+    Spread spread = createSpread();
+    IExpressionIndex index = IndexFactory.toExpressionIndex( spread , node.exec( spread ) );
+    assertEquals( 2 , index.size() );
+    assertEquals( 1 , index.get(0) );
+    assertEquals( 2 , index.get(1) );
+  }
+
+}